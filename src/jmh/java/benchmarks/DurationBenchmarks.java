@@ -0,0 +1,63 @@
+package benchmarks;
+
+import models.Beta;
+import models.Gamma;
+import models.Historic;
+import models.Location;
+import models.Recycling;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Covers the travel and process duration calculations for waste either side of METALLIC_THRESH and each route.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationBenchmarks {
+
+    @Param({"1000", "5000", "1000000"})
+    public double initialWaste;
+
+    @Param({"A", "B", "C"})
+    public String centreLocation;
+
+    private Historic historic;
+    private Recycling beta;
+    private Recycling gamma;
+
+    @Setup
+    public void setUp() {
+        this.historic = new Historic(Location.A, this.initialWaste);
+        this.beta = new Beta(Location.valueOf(this.centreLocation), 5);
+        this.gamma = new Gamma(Location.valueOf(this.centreLocation), 5);
+    }
+
+    @Benchmark
+    public double calculateTravelDuration() throws Throwable {
+        return (double) UtilsHandles.CALCULATE_TRAVEL_DURATION.invokeExact(this.historic, this.beta);
+    }
+
+    // The per-transport simulation that calculateTravelDuration used before the closed-form planner.
+    @Benchmark
+    public double calculateTravelDurationTrace() throws Throwable {
+        return (double) UtilsHandles.CALCULATE_TRAVEL_DURATION_WITH_MODE.invokeExact(this.historic, this.beta, UtilsHandles.TRACE_MODE);
+    }
+
+    @Benchmark
+    public double calculateProcessDuration() throws Throwable {
+        return (double) UtilsHandles.CALCULATE_PROCESS_DURATION.invokeExact(this.historic, this.gamma);
+    }
+}
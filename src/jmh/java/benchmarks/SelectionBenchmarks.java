@@ -0,0 +1,114 @@
+package benchmarks;
+
+import models.Alpha;
+import models.Beta;
+import models.Gamma;
+import models.Historic;
+import models.Location;
+import models.Recycling;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Covers the centre selection pipeline across registry sizes, waste either side of METALLIC_THRESH and location mixes.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SelectionBenchmarks {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int candidateCount;
+
+    // 1000 has no metallic waste (so Gamma centres are not viable); 5000 is above the threshold.
+    @Param({"1000", "5000"})
+    public double initialWaste;
+
+    // LOCAL: every centre at the historic site's location; MIXED: spread evenly over A, B and C; REMOTE: mostly at C.
+    @Param({"LOCAL", "MIXED", "REMOTE"})
+    public String locationMix;
+
+    private Historic historic;
+    private List<Recycling> candidates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.historic = new Historic(Location.A, this.initialWaste);
+        this.candidates = new ArrayList<>(this.candidateCount);
+
+        for (int i = 0; i < this.candidateCount; i++) {
+            Location location = switch (this.locationMix) {
+                case "LOCAL" -> Location.A;
+                case "REMOTE" -> random.nextInt(10) == 0 ? Location.B : Location.C;
+                default -> Location.values()[random.nextInt(3)];
+            };
+            int yearsActive = random.nextInt(30);
+            this.candidates.add(switch (random.nextInt(3)) {
+                case 0 -> new Alpha(location, yearsActive);
+                case 1 -> new Beta(location, yearsActive);
+                default -> new Gamma(location, yearsActive);
+            });
+        }
+    }
+
+    // findViableCentres prunes its argument, so each call gets a fresh copy; copyCandidates measures that copy on its own.
+    @Benchmark
+    public List<Recycling> copyCandidates() {
+        return new ArrayList<>(this.candidates);
+    }
+
+    @Benchmark
+    public Object findViableCentres() throws Throwable {
+        return (List<?>) UtilsHandles.FIND_VIABLE_CENTRES.invokeExact(this.historic, (List<?>) new ArrayList<>(this.candidates));
+    }
+
+    @Benchmark
+    public Object filterViableCentres() throws Throwable {
+        return (List<?>) UtilsHandles.FILTER_VIABLE_CENTRES.invokeExact(this.historic, (List<?>) this.candidates);
+    }
+
+    @Benchmark
+    public Object findNearestCentres() throws Throwable {
+        return (List<?>) UtilsHandles.FIND_NEAREST_CENTRES.invokeExact(this.historic, (List<?>) this.candidates);
+    }
+
+    @Benchmark
+    public Object findLeastYearsActive() throws Throwable {
+        return (List<?>) UtilsHandles.FIND_LEAST_YEARS_ACTIVE.invokeExact((List<?>) this.candidates);
+    }
+
+    @Benchmark
+    public Object findHighestGenerations() throws Throwable {
+        return (List<?>) UtilsHandles.FIND_HIGHEST_GENERATIONS.invokeExact((List<?>) this.candidates);
+    }
+
+    @Benchmark
+    public Object findOptimalCentre() throws Throwable {
+        return (Recycling) UtilsHandles.FIND_OPTIMAL_CENTRE.invokeExact(this.historic, (List<?>) this.candidates);
+    }
+
+    // The original three-stage selection, kept as the reference point for findOptimalCentre.
+    @Benchmark
+    public Object threeStageOptimalCentre() throws Throwable {
+        List<?> nearest = (List<?>) UtilsHandles.FIND_NEAREST_CENTRES.invokeExact(this.historic, (List<?>) this.candidates);
+        List<?> youngest = (List<?>) UtilsHandles.FIND_LEAST_YEARS_ACTIVE.invokeExact(nearest);
+        List<?> highest = (List<?>) UtilsHandles.FIND_HIGHEST_GENERATIONS.invokeExact(youngest);
+        return highest.get(0);
+    }
+}
@@ -0,0 +1,57 @@
+package benchmarks;
+
+import models.Historic;
+import models.Recycling;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+// JMH won't generate benchmarks for classes in the default package, and classes in a named package can't refer to Utils
+// by name, so the benchmarks reach it through these handles. They are static final, so the JIT treats each call as a
+// direct call to the Utils method.
+final class UtilsHandles {
+
+    static final MethodHandle FIND_VIABLE_CENTRES;
+    static final MethodHandle FILTER_VIABLE_CENTRES;
+    static final MethodHandle FIND_NEAREST_CENTRES;
+    static final MethodHandle FIND_LEAST_YEARS_ACTIVE;
+    static final MethodHandle FIND_HIGHEST_GENERATIONS;
+    static final MethodHandle FIND_OPTIMAL_CENTRE;
+    static final MethodHandle CALCULATE_TRAVEL_DURATION;
+    static final MethodHandle CALCULATE_TRAVEL_DURATION_WITH_MODE;
+    static final MethodHandle CALCULATE_PROCESS_DURATION;
+    static final Object TRACE_MODE;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> utils = Class.forName("Utils");
+            Class<?> travelMode = Class.forName("Utils$TravelMode");
+
+            MethodType centresFilter = MethodType.methodType(List.class, Historic.class, List.class);
+            MethodType centresStage = MethodType.methodType(List.class, List.class);
+            MethodType duration = MethodType.methodType(double.class, Historic.class, Recycling.class);
+
+            FIND_VIABLE_CENTRES = lookup.findStatic(utils, "findViableCentres", centresFilter);
+            FILTER_VIABLE_CENTRES = lookup.findStatic(utils, "filterViableCentres", centresFilter);
+            FIND_NEAREST_CENTRES = lookup.findStatic(utils, "findNearestCentres", centresFilter);
+            FIND_LEAST_YEARS_ACTIVE = lookup.findStatic(utils, "findLeastYearsActive", centresStage);
+            FIND_HIGHEST_GENERATIONS = lookup.findStatic(utils, "findHighestGenerations", centresStage);
+            FIND_OPTIMAL_CENTRE = lookup.findStatic(utils, "findOptimalCentre",
+                    MethodType.methodType(Recycling.class, Historic.class, List.class));
+            CALCULATE_TRAVEL_DURATION = lookup.findStatic(utils, "calculateTravelDuration", duration);
+            CALCULATE_TRAVEL_DURATION_WITH_MODE = lookup.findStatic(utils, "calculateTravelDuration",
+                            duration.appendParameterTypes(travelMode))
+                    .asType(duration.appendParameterTypes(Object.class));
+            CALCULATE_PROCESS_DURATION = lookup.findStatic(utils, "calculateProcessDuration", duration);
+            TRACE_MODE = travelMode.getField("TRACE").get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private UtilsHandles() {
+    }
+}
@@ -0,0 +1,231 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs many scenarios without the interactive menus. The input has one scenario per line:
+//
+//   id,historicLocation,initialWaste,centres
+//
+// where centres is a ';' separated list of location:generation:yearsActive, for example "s1,A,2000,B:Gamma:5;C:Alpha:3".
+// Blank lines and lines starting with '#' are ignored. One CSV row is written per scenario, in input order. A scenario that
+// can't be parsed or evaluated gets a row with its error column filled in rather than stopping the rest of the batch.
+// Locations are names on the network the batch runs on: A, B and C on the built-in network, or any location of a network
+// read by LocationNetwork.load.
+public final class BatchRunner {
+
+    public static final String RESULT_HEADER = "id,historicLocation,initialWaste,viableCentres,optimalLocation,"
+            + "optimalGeneration,optimalYearsActive,travelDuration,processDuration,totalDuration,error";
+
+    // Lines read and evaluated together when running in parallel; bounds memory use while giving every core work.
+    static final int LINES_PER_CHUNK = 8192;
+
+    private BatchRunner() {
+    }
+
+    // Returns the number of scenarios written.
+    public static long run(Path input, Path output) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            return run(reader, writer);
+        }
+    }
+
+    public static long run(Path input, Path output, ScenarioExecutor executor) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            return run(reader, writer, executor);
+        }
+    }
+
+    // Scenarios are read, evaluated and written one line at a time, so memory use doesn't grow with the batch size.
+    public static long run(BufferedReader reader, Writer writer) throws IOException {
+        return run(reader, writer, LocationNetwork.builtIn());
+    }
+
+    public static long run(BufferedReader reader, Writer writer, LocationNetwork network) throws IOException {
+        writer.write(RESULT_HEADER);
+        writer.write(System.lineSeparator());
+
+        long scenarios = 0;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (isSkipped(line)) {
+                continue;
+            }
+
+            writer.write(evaluateLine(line, lineNumber, network));
+            writer.write(System.lineSeparator());
+            scenarios++;
+        }
+
+        writer.flush();
+        return scenarios;
+    }
+
+    // Reads the input in chunks and evaluates each chunk on the executor, writing rows back in input order.
+    public static long run(BufferedReader reader, Writer writer, ScenarioExecutor executor) throws IOException {
+        return run(reader, writer, executor, LocationNetwork.builtIn());
+    }
+
+    public static long run(BufferedReader reader, Writer writer, ScenarioExecutor executor, LocationNetwork network) throws IOException {
+        writer.write(RESULT_HEADER);
+        writer.write(System.lineSeparator());
+
+        long scenarios = 0;
+        long lineNumber = 0;
+        List<String[]> chunk = new ArrayList<>(LINES_PER_CHUNK);
+        List<String> ids = new ArrayList<>(LINES_PER_CHUNK);
+        String line;
+        do {
+            line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+                if (isSkipped(line)) {
+                    continue;
+                }
+
+                String[] fields = line.split(",", 4);
+                chunk.add(fields);
+                ids.add(fields[0].trim().isEmpty() ? "line-" + lineNumber : fields[0].trim());
+            }
+
+            if (chunk.size() == LINES_PER_CHUNK || (line == null && !chunk.isEmpty())) {
+                writeChunk(chunk, ids, writer, executor, network);
+                scenarios += chunk.size();
+                chunk.clear();
+                ids.clear();
+            }
+        } while (line != null);
+
+        writer.flush();
+        return scenarios;
+    }
+
+    private static void writeChunk(List<String[]> chunk, List<String> ids, Writer writer, ScenarioExecutor executor,
+                                   LocationNetwork network) throws IOException {
+        // Parsing stays on this thread; only scenarios that parsed are handed to the executor.
+        ScenarioConfiguration[] parsed = new ScenarioConfiguration[chunk.size()];
+        RuntimeException[] parseErrors = new RuntimeException[chunk.size()];
+        List<ScenarioConfiguration> toEvaluate = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                parsed[i] = parseScenario(chunk.get(i), network);
+                toEvaluate.add(parsed[i]);
+            } catch (RuntimeException e) {
+                parseErrors[i] = e;
+            }
+        }
+
+        List<ScenarioOutcome> outcomes = executor.evaluateAll(toEvaluate);
+
+        int next = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            String row;
+            if (parseErrors[i] != null) {
+                row = formatError(ids.get(i), chunk.get(i), parseErrors[i]);
+            } else {
+                ScenarioOutcome outcome = outcomes.get(next++);
+                row = outcome.isSuccess()
+                        ? formatResult(ids.get(i), parsed[i], outcome.getResult())
+                        : formatError(ids.get(i), chunk.get(i), outcome.getError());
+            }
+            writer.write(row);
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    static boolean isSkipped(String line) {
+        String trimmed = line.trim();
+        return trimmed.isEmpty() || trimmed.startsWith("#");
+    }
+
+    static String evaluateLine(String line, long lineNumber) {
+        return evaluateLine(line, lineNumber, LocationNetwork.builtIn());
+    }
+
+    static String evaluateLine(String line, long lineNumber, LocationNetwork network) {
+        String[] fields = line.split(",", 4);
+        String id = fields[0].trim().isEmpty() ? "line-" + lineNumber : fields[0].trim();
+
+        try {
+            ScenarioConfiguration scenario = parseScenario(fields, network);
+            return formatResult(id, scenario, Utils.evaluateScenario(scenario));
+        } catch (RuntimeException e) {
+            return formatError(id, fields, e);
+        }
+    }
+
+    static ScenarioConfiguration parseScenario(String[] fields, LocationNetwork network) {
+        if (fields.length < 3) {
+            throw new IllegalArgumentException("Expected id,historicLocation,initialWaste,centres");
+        }
+
+        Historic historic = new Historic(network, fields[1].trim(), Double.parseDouble(fields[2].trim()));
+
+        List<Recycling> centres = new ArrayList<>();
+        if (fields.length > 3) {
+            for (String centre : fields[3].split(";")) {
+                if (!centre.isBlank()) {
+                    centres.add(parseCentre(centre, network));
+                }
+            }
+        }
+
+        return new ScenarioConfiguration(historic, centres, network);
+    }
+
+    static Recycling parseCentre(String centre, LocationNetwork network) {
+        String[] parts = centre.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected location:generation:yearsActive but got '" + centre.trim() + "'");
+        }
+
+        Recycling.Generation generation = Recycling.Generation.fromName(parts[1].trim());
+        if (generation == null) {
+            throw new IllegalArgumentException("Unknown generation '" + parts[1].trim() + "'");
+        }
+
+        return generation.newCentre(network, parts[0].trim(), Integer.parseInt(parts[2].trim()));
+    }
+
+    static String formatResult(String id, ScenarioConfiguration scenario, ScenarioResult result) {
+        Historic historic = scenario.getHistoric();
+        Recycling optimalCentre = result.getOptimalCentre();
+
+        return String.join(",",
+                id,
+                historic.getLocationName(),
+                Double.toString(historic.getRemainingWaste()),
+                Integer.toString(result.getViableCentres().size()),
+                optimalCentre.getLocationName(),
+                optimalCentre.getGeneration(),
+                Integer.toString(optimalCentre.getYearsActive()),
+                Double.toString(result.getTravelDuration()),
+                Double.toString(result.getProcessDuration()),
+                Double.toString(result.getTotalDuration()),
+                "");
+    }
+
+    static String formatError(String id, String[] fields, Exception error) {
+        String message = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+
+        return String.join(",",
+                id,
+                fields.length > 1 ? fields[1].trim() : "",
+                fields.length > 2 ? fields[2].trim() : "",
+                "", "", "", "", "", "", "",
+                message.replaceAll("[,\\r\\n]", " "));
+    }
+}
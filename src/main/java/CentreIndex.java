@@ -0,0 +1,264 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Recycling centres bucketed by location and then by generation, each bucket ordered by yearsActive.
+// A query only visits the locations within reach of the historic site, nearest first, and the best centre in a bucket
+// is always its first entry, so picking the optimal centre costs in proportion to the number of nearby locations
+// rather than the number of centres.
+// Build the index by adding centres, then query it from as many threads as needed.
+public final class CentreIndex {
+
+    // One bucket per generation, plus one at the front for centres of an unknown generation.
+    private static final int BUCKETS_PER_LOCATION = Recycling.Generation.values().length + 1;
+    private static final int GAMMA_BUCKET = Recycling.Generation.GAMMA.getRank() + 1;
+
+    private final LocationNetwork network;
+    private final List<Recycling> centres = new ArrayList<>();
+    private final Bucket[] buckets;
+    private final int[] centresPerLocation;
+
+    // Locations within reach of each origin, nearest first. Filled in the first time an origin is queried.
+    private final AtomicReferenceArray<int[]> reachable;
+
+    public CentreIndex() {
+        this(LocationNetwork.builtIn());
+    }
+
+    public CentreIndex(LocationNetwork network) {
+        this.network = network;
+        this.buckets = new Bucket[network.size() * BUCKETS_PER_LOCATION];
+        this.centresPerLocation = new int[network.size()];
+        this.reachable = new AtomicReferenceArray<>(network.size());
+    }
+
+    public void add(Recycling centre) {
+        bucketFor(centre).insert(this.centres.size(), centre.getYearsActive());
+        track(centre);
+    }
+
+    // Appends every centre to its bucket and sorts each bucket once at the end, so a bulk load in any order costs
+    // O(n log n) rather than a shift per centre.
+    public void addAll(Collection<? extends Recycling> centres) {
+        for (Recycling centre : centres) {
+            bucketFor(centre).append(this.centres.size(), centre.getYearsActive());
+            track(centre);
+        }
+        for (Bucket bucket : this.buckets) {
+            if (bucket != null) {
+                bucket.sort();
+            }
+        }
+    }
+
+    private Bucket bucketFor(Recycling centre) {
+        int slot = this.network.idOf(centre) * BUCKETS_PER_LOCATION
+                + generationBucket(centre.getGenerationType());
+
+        Bucket bucket = this.buckets[slot];
+        if (bucket == null) {
+            bucket = new Bucket();
+            this.buckets[slot] = bucket;
+        }
+        return bucket;
+    }
+
+    private void track(Recycling centre) {
+        this.centres.add(centre);
+        this.centresPerLocation[this.network.idOf(centre)]++;
+    }
+
+    public int size() {
+        return this.centres.size();
+    }
+
+    // Same centres as Utils.filterViableCentres over every centre added, in the order they were added.
+    public List<Recycling> findViableCentres(Historic historic) {
+        boolean metallicPresent = historic.getMetallic() > 0;
+
+        int[] positions = new int[16];
+        int count = 0;
+        for (int location : reachableFrom(this.network.idOf(historic))) {
+            if (this.centresPerLocation[location] == 0) {
+                continue;
+            }
+
+            for (int b = 0; b < BUCKETS_PER_LOCATION; b++) {
+                Bucket bucket = this.buckets[location * BUCKETS_PER_LOCATION + b];
+                if (bucket == null || (b == GAMMA_BUCKET && !metallicPresent)) {
+                    continue;
+                }
+
+                if (count + bucket.size > positions.length) {
+                    positions = Arrays.copyOf(positions, Math.max(positions.length * 2, count + bucket.size));
+                }
+                System.arraycopy(bucket.positions, 0, positions, count, bucket.size);
+                count += bucket.size;
+            }
+        }
+
+        Arrays.sort(positions, 0, count);
+
+        List<Recycling> viableCentres = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            viableCentres.add(this.centres.get(positions[i]));
+        }
+        return viableCentres;
+    }
+
+    // Same centre as Utils.findOptimalCentre over the viable centres, including the NoSuchElementException when there
+    // are none or when the nearest, least active centres are all of an unknown generation.
+    public Recycling findOptimalCentre(Historic historic) {
+        boolean metallicPresent = historic.getMetallic() > 0;
+        int origin = this.network.idOf(historic);
+
+        double bestTravelTime = Double.POSITIVE_INFINITY;
+        int bestYearsActive = Integer.MAX_VALUE;
+        int bestRank = Integer.MIN_VALUE;
+        int bestPosition = -1;
+
+        for (int location : reachableFrom(origin)) {
+            double travelTime = this.network.travelTime(origin, location);
+            if (travelTime > bestTravelTime) {
+                break;
+            }
+            if (this.centresPerLocation[location] == 0) {
+                continue;
+            }
+
+            for (int b = 0; b < BUCKETS_PER_LOCATION; b++) {
+                Bucket bucket = this.buckets[location * BUCKETS_PER_LOCATION + b];
+                if (bucket == null || (b == GAMMA_BUCKET && !metallicPresent)) {
+                    continue;
+                }
+
+                int yearsActive = bucket.yearsActive[0];
+                int rank = b - 1;
+                int position = bucket.positions[0];
+                if (bestPosition < 0
+                        || yearsActive < bestYearsActive
+                        || (yearsActive == bestYearsActive && (rank > bestRank
+                            || (rank == bestRank && position < bestPosition)))) {
+                    bestTravelTime = travelTime;
+                    bestYearsActive = yearsActive;
+                    bestRank = rank;
+                    bestPosition = position;
+                }
+            }
+        }
+
+        if (bestPosition < 0) {
+            throw new NoSuchElementException("No viable centres to choose from");
+        }
+        if (bestRank < 0) {
+            throw new NoSuchElementException("No centre of a known generation among the nearest, least active centres");
+        }
+
+        return this.centres.get(bestPosition);
+    }
+
+    private int[] reachableFrom(int origin) {
+        int[] locations = this.reachable.get(origin);
+        if (locations != null) {
+            return locations;
+        }
+
+        int count = 0;
+        Integer[] found = new Integer[this.network.size()];
+        for (int location = 0; location < this.network.size(); location++) {
+            if (this.network.travelTime(origin, location) <= Utils.MAX_VIABLE_TRAVEL_TIME) {
+                found[count++] = location;
+            }
+        }
+        Arrays.sort(found, 0, count, (a, b) -> Double.compare(this.network.travelTime(origin, a), this.network.travelTime(origin, b)));
+
+        locations = new int[count];
+        for (int i = 0; i < count; i++) {
+            locations[i] = found[i];
+        }
+
+        // Another thread may have got there first; either copy is the same.
+        this.reachable.compareAndSet(origin, null, locations);
+        return locations;
+    }
+
+    private static int generationBucket(Recycling.Generation generation) {
+        return generation == null ? 0 : generation.getRank() + 1;
+    }
+
+    // Positions into the centres list, ordered by yearsActive and then by position.
+    private static final class Bucket {
+        private int[] positions = new int[4];
+        private int[] yearsActive = new int[4];
+        private int size;
+        // False once an append has put a centre out of yearsActive order.
+        private boolean sorted = true;
+
+        // Positions only ever grow, so a new centre goes after every centre with the same yearsActive.
+        private void insert(int position, int years) {
+            grow();
+
+            int low = 0;
+            int high = this.size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (this.yearsActive[mid] <= years) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            System.arraycopy(this.positions, low, this.positions, low + 1, this.size - low);
+            System.arraycopy(this.yearsActive, low, this.yearsActive, low + 1, this.size - low);
+            this.positions[low] = position;
+            this.yearsActive[low] = years;
+            this.size++;
+        }
+
+        // Adds the centre at the end. Call sort() before the bucket is next queried.
+        private void append(int position, int years) {
+            grow();
+
+            if (this.size > 0 && this.yearsActive[this.size - 1] > years) {
+                this.sorted = false;
+            }
+            this.positions[this.size] = position;
+            this.yearsActive[this.size] = years;
+            this.size++;
+        }
+
+        // Orders the bucket by yearsActive and then by position, as insert() would have.
+        private void sort() {
+            if (this.sorted) {
+                return;
+            }
+
+            // yearsActive in the high half and the (never negative) position in the low half, so the longs sort in
+            // the same order as the pairs.
+            long[] keys = new long[this.size];
+            for (int i = 0; i < this.size; i++) {
+                keys[i] = ((long) this.yearsActive[i] << 32) | this.positions[i];
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < this.size; i++) {
+                this.yearsActive[i] = (int) (keys[i] >> 32);
+                this.positions[i] = (int) keys[i];
+            }
+            this.sorted = true;
+        }
+
+        private void grow() {
+            if (this.size == this.positions.length) {
+                this.positions = Arrays.copyOf(this.positions, this.size * 2);
+                this.yearsActive = Arrays.copyOf(this.yearsActive, this.size * 2);
+            }
+        }
+    }
+}
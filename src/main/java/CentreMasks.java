@@ -0,0 +1,152 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// A fixed registry of centres with each viability rule held as a bitmask over the registry, one bit per centre.
+// Finding the viable centres is then a word-wise "within reach of the origin AND NOT Gamma" (the Gamma mask only
+// applies when there is no metallic waste), followed by a scan of the set bits.
+// The Gamma mask is built up front; the within-reach mask for an origin is built the first time that origin is
+// queried and kept for later queries. Safe to query from many threads at once.
+public final class CentreMasks {
+
+    private final LocationNetwork network;
+    private final Recycling[] centres;
+    private final int[] locationIds;
+    private final int words;
+    private final long[] gammaMask;
+    private final AtomicReferenceArray<long[]> withinReachMasks;
+
+    public CentreMasks(List<? extends Recycling> centres) {
+        this(centres, LocationNetwork.builtIn());
+    }
+
+    public CentreMasks(List<? extends Recycling> centres, LocationNetwork network) {
+        this.network = network;
+        this.centres = centres.toArray(new Recycling[0]);
+        this.locationIds = new int[this.centres.length];
+        this.words = (this.centres.length + 63) >>> 6;
+        this.gammaMask = new long[this.words];
+        this.withinReachMasks = new AtomicReferenceArray<>(network.size());
+
+        for (int i = 0; i < this.centres.length; i++) {
+            this.locationIds[i] = network.idOf(this.centres[i]);
+            if (this.centres[i].getGenerationType() == Recycling.Generation.GAMMA) {
+                this.gammaMask[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    public int size() {
+        return this.centres.length;
+    }
+
+    // Bit i is set when the i-th centre is viable for the historic site.
+    public BitSet viableMask(Historic historic) {
+        return BitSet.valueOf(viableWords(historic));
+    }
+
+    // Same centres as Utils.filterViableCentres over the registry, in registry order.
+    public List<Recycling> findViableCentres(Historic historic) {
+        long[] viable = viableWords(historic);
+
+        int count = 0;
+        for (long word : viable) {
+            count += Long.bitCount(word);
+        }
+
+        List<Recycling> viableCentres = new ArrayList<>(count);
+        for (int w = 0; w < viable.length; w++) {
+            long word = viable[w];
+            while (word != 0) {
+                viableCentres.add(this.centres[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return viableCentres;
+    }
+
+    // Same centre as Utils.findOptimalCentre over the viable centres, found in one pass over the set bits.
+    public Recycling findOptimalCentre(Historic historic) {
+        long[] viable = viableWords(historic);
+        int origin = this.network.idOf(historic);
+
+        int best = -1;
+        double bestTravelTime = Double.POSITIVE_INFINITY;
+        int bestYearsActive = Integer.MAX_VALUE;
+        int bestRank = Integer.MIN_VALUE;
+
+        for (int w = 0; w < viable.length; w++) {
+            long word = viable[w];
+            while (word != 0) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+
+                double travelTime = this.network.travelTime(origin, this.locationIds[i]);
+                int yearsActive = this.centres[i].getYearsActive();
+                Recycling.Generation generation = this.centres[i].getGenerationType();
+                int rank = generation == null ? -1 : generation.getRank();
+
+                if (best < 0
+                        || travelTime < bestTravelTime
+                        || (travelTime == bestTravelTime && (yearsActive < bestYearsActive
+                            || (yearsActive == bestYearsActive && rank > bestRank)))) {
+                    best = i;
+                    bestTravelTime = travelTime;
+                    bestYearsActive = yearsActive;
+                    bestRank = rank;
+                }
+            }
+        }
+
+        if (best < 0) {
+            throw new NoSuchElementException("No viable centres to choose from");
+        }
+        if (bestRank < 0) {
+            throw new NoSuchElementException("No centre of a known generation among the nearest, least active centres");
+        }
+
+        return this.centres[best];
+    }
+
+    private long[] viableWords(Historic historic) {
+        long[] withinReach = withinReachMask(this.network.idOf(historic));
+        long[] viable = withinReach.clone();
+
+        // Without metallic waste, only Alpha and Beta centres are viable.
+        if (historic.getMetallic() <= 0) {
+            for (int w = 0; w < this.words; w++) {
+                viable[w] &= ~this.gammaMask[w];
+            }
+        }
+        return viable;
+    }
+
+    private long[] withinReachMask(int origin) {
+        long[] mask = this.withinReachMasks.get(origin);
+        if (mask != null) {
+            return mask;
+        }
+
+        boolean[] reachable = new boolean[this.network.size()];
+        for (int location = 0; location < reachable.length; location++) {
+            reachable[location] = this.network.travelTime(origin, location) <= Utils.MAX_VIABLE_TRAVEL_TIME;
+        }
+
+        mask = new long[this.words];
+        for (int i = 0; i < this.locationIds.length; i++) {
+            if (reachable[this.locationIds[i]]) {
+                mask[i >>> 6] |= 1L << i;
+            }
+        }
+
+        // Another thread may have got there first; either copy is the same.
+        this.withinReachMasks.compareAndSet(origin, null, mask);
+        return mask;
+    }
+}
@@ -0,0 +1,186 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// A registry of centres held as parallel primitive arrays (location id, generation and yearsActive) rather than one
+// Recycling object per centre. That is 9 bytes a centre, so 10 million centres fit in about 90 MB, and a scan
+// reads memory front to back. Centres are referred to by their index, which is the order they were added in.
+// A generation of -1 means a centre of an unknown generation.
+public final class CentreTable {
+
+    private static final byte UNKNOWN_GENERATION = -1;
+    private static final byte GAMMA = (byte) Recycling.Generation.GAMMA.ordinal();
+
+    private final LocationNetwork network;
+    private int[] locationIds;
+    private byte[] generations;
+    private int[] yearsActive;
+    private int size;
+
+    public CentreTable() {
+        this(LocationNetwork.builtIn(), 16);
+    }
+
+    public CentreTable(LocationNetwork network, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+
+        this.network = network;
+        this.locationIds = new int[initialCapacity];
+        this.generations = new byte[initialCapacity];
+        this.yearsActive = new int[initialCapacity];
+    }
+
+    public int add(Recycling centre) {
+        return add(this.network.idOf(centre), centre.getGenerationType(), centre.getYearsActive());
+    }
+
+    public int add(int locationId, Recycling.Generation generation, int yearsActive) {
+        if (locationId < 0 || locationId >= this.network.size()) {
+            throw new IllegalArgumentException("Unknown location id " + locationId);
+        }
+
+        if (this.size == this.locationIds.length) {
+            int capacity = Math.max(16, this.size + (this.size >> 1));
+            this.locationIds = Arrays.copyOf(this.locationIds, capacity);
+            this.generations = Arrays.copyOf(this.generations, capacity);
+            this.yearsActive = Arrays.copyOf(this.yearsActive, capacity);
+        }
+
+        this.locationIds[this.size] = locationId;
+        this.generations[this.size] = generation == null ? UNKNOWN_GENERATION : (byte) generation.ordinal();
+        this.yearsActive[this.size] = yearsActive;
+        return this.size++;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getLocationId(int index) {
+        checkIndex(index);
+        return this.locationIds[index];
+    }
+
+    // Null for a centre of an unknown generation.
+    public Recycling.Generation getGeneration(int index) {
+        checkIndex(index);
+        byte generation = this.generations[index];
+        return generation == UNKNOWN_GENERATION ? null : Recycling.Generation.values()[generation];
+    }
+
+    public int getYearsActive(int index) {
+        checkIndex(index);
+        return this.yearsActive[index];
+    }
+
+    // Indices of the viable centres, in ascending order. Same rules as Utils.filterViableCentres.
+    public int[] filterViable(Historic historic) {
+        return filterViable(this.network.idOf(historic), historic.getMetallic() > 0);
+    }
+
+    public int[] filterViable(int origin, boolean metallicPresent) {
+        boolean[] reachable = reachableFrom(origin);
+
+        int[] viable = new int[Math.min(this.size, 1024)];
+        int count = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (reachable[this.locationIds[i]] && (metallicPresent || this.generations[i] != GAMMA)) {
+                if (count == viable.length) {
+                    viable = Arrays.copyOf(viable, Math.min(this.size, count * 2));
+                }
+                viable[count++] = i;
+            }
+        }
+        return Arrays.copyOf(viable, count);
+    }
+
+    // Index of the optimal centre among the given indices. Same rules and exceptions as Utils.findOptimalCentre.
+    public int selectOptimal(int origin, int[] candidates) {
+        int best = -1;
+        double bestTravelTime = Double.POSITIVE_INFINITY;
+        int bestYearsActive = Integer.MAX_VALUE;
+        int bestRank = Integer.MIN_VALUE;
+
+        for (int i : candidates) {
+            checkIndex(i);
+            double travelTime = this.network.travelTime(origin, this.locationIds[i]);
+            int yearsActive = this.yearsActive[i];
+            int rank = this.generations[i];
+
+            if (best < 0
+                    || travelTime < bestTravelTime
+                    || (travelTime == bestTravelTime && (yearsActive < bestYearsActive
+                        || (yearsActive == bestYearsActive && rank > bestRank)))) {
+                best = i;
+                bestTravelTime = travelTime;
+                bestYearsActive = yearsActive;
+                bestRank = rank;
+            }
+        }
+
+        return checkOptimal(best, bestRank);
+    }
+
+    // Index of the optimal viable centre, in a single pass that allocates nothing per centre.
+    public int selectOptimal(Historic historic) {
+        int origin = this.network.idOf(historic);
+        boolean metallicPresent = historic.getMetallic() > 0;
+        boolean[] reachable = reachableFrom(origin);
+
+        int best = -1;
+        double bestTravelTime = Double.POSITIVE_INFINITY;
+        int bestYearsActive = Integer.MAX_VALUE;
+        int bestRank = Integer.MIN_VALUE;
+
+        for (int i = 0; i < this.size; i++) {
+            int location = this.locationIds[i];
+            int rank = this.generations[i];
+            if (!reachable[location] || (!metallicPresent && rank == GAMMA)) {
+                continue;
+            }
+
+            double travelTime = this.network.travelTime(origin, location);
+            int yearsActive = this.yearsActive[i];
+            if (best < 0
+                    || travelTime < bestTravelTime
+                    || (travelTime == bestTravelTime && (yearsActive < bestYearsActive
+                        || (yearsActive == bestYearsActive && rank > bestRank)))) {
+                best = i;
+                bestTravelTime = travelTime;
+                bestYearsActive = yearsActive;
+                bestRank = rank;
+            }
+        }
+
+        return checkOptimal(best, bestRank);
+    }
+
+    private static int checkOptimal(int best, int bestRank) {
+        if (best < 0) {
+            throw new NoSuchElementException("No candidate centres to choose from");
+        }
+        if (bestRank < 0) {
+            throw new NoSuchElementException("No centre of a known generation among the nearest, least active centres");
+        }
+        return best;
+    }
+
+    private boolean[] reachableFrom(int origin) {
+        boolean[] reachable = new boolean[this.network.size()];
+        for (int location = 0; location < reachable.length; location++) {
+            reachable[location] = this.network.travelTime(origin, location) <= Utils.MAX_VIABLE_TRAVEL_TIME;
+        }
+        return reachable;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("No centre at index " + index + " in a table of " + this.size);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// A priority queue of simulation events held in two parallel primitive arrays (a binary min-heap), so scheduling
+// and taking events allocates nothing once the arrays have grown to the simulation's size.
+// Each event is a time and a type plus a load number. Events at the same time come out in order of type, then load,
+// so a run is always deterministic.
+final class EventCalendar {
+
+    private double[] times = new double[16];
+    private long[] events = new long[16];
+    private int size;
+
+    void schedule(double time, int type, long load) {
+        if (this.size == this.times.length) {
+            this.times = Arrays.copyOf(this.times, this.size * 2);
+            this.events = Arrays.copyOf(this.events, this.size * 2);
+        }
+
+        long event = ((long) type << 56) | load;
+
+        // Sift up from the new leaf.
+        int child = this.size++;
+        while (child > 0) {
+            int parent = (child - 1) >>> 1;
+            if (!before(time, event, this.times[parent], this.events[parent])) {
+                break;
+            }
+            this.times[child] = this.times[parent];
+            this.events[child] = this.events[parent];
+            child = parent;
+        }
+        this.times[child] = time;
+        this.events[child] = event;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    // Time of the next event, which poll will return.
+    double peekTime() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("No events scheduled");
+        }
+        return this.times[0];
+    }
+
+    // Removes the next event and returns it; use typeOf and loadOf to unpack it.
+    long poll() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("No events scheduled");
+        }
+
+        long next = this.events[0];
+        double lastTime = this.times[--this.size];
+        long lastEvent = this.events[this.size];
+
+        // Sift the last leaf down from the root.
+        int parent = 0;
+        while (true) {
+            int child = 2 * parent + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size && before(this.times[child + 1], this.events[child + 1], this.times[child], this.events[child])) {
+                child++;
+            }
+            if (!before(this.times[child], this.events[child], lastTime, lastEvent)) {
+                break;
+            }
+            this.times[parent] = this.times[child];
+            this.events[parent] = this.events[child];
+            parent = child;
+        }
+        this.times[parent] = lastTime;
+        this.events[parent] = lastEvent;
+
+        return next;
+    }
+
+    void clear() {
+        this.size = 0;
+    }
+
+    static int typeOf(long event) {
+        return (int) (event >>> 56);
+    }
+
+    static long loadOf(long event) {
+        return event & 0x00FF_FFFF_FFFF_FFFFL;
+    }
+
+    private static boolean before(double time, long event, double otherTime, long otherEvent) {
+        return time < otherTime || (time == otherTime && event < otherEvent);
+    }
+}
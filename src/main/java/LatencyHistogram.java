@@ -0,0 +1,72 @@
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free latency histogram with power-of-two nanosecond buckets: bucket i holds durations below 2^i ns.
+// Cheap enough to record from every worker thread; percentiles are reported as the upper bound of their bucket.
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        this.buckets[Math.min(64 - Long.numberOfLeadingZeros(duration), BUCKETS - 1)].increment();
+        this.count.increment();
+        this.totalNanos.add(duration);
+        this.maxNanos.accumulate(duration);
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long samples = getCount();
+        return samples == 0 ? 0.0 : (double) getTotalNanos() / samples;
+    }
+
+    // Upper bound of the bucket holding the given percentile (0 to 100), or 0 if nothing has been recorded.
+    public long getPercentileNanos(double percentile) {
+        long samples = getCount();
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(samples * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.buckets[i].sum();
+            if (seen >= Math.max(rank, 1)) {
+                return i == 0 ? 0 : Math.min(1L << Math.min(i, 62), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    public void reset() {
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.count.reset();
+        this.totalNanos.reset();
+        this.maxNanos.reset();
+    }
+}
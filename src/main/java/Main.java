@@ -1,13 +1,31 @@
 import models.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.function.Function;
 
 public class Main {
     public static void main(String[] args) {
 
+        // --stats prints per-stage timings and counters after each run
+        ScenarioMetrics.setEnabled(args != null && Arrays.asList(args).contains("--stats"));
+
+        // Headless batch mode, e.g. --batch scenarios.csv results.csv (results go to the console if omitted)
+        if (args != null && args.length > 0 && Objects.equals(args[0], "--batch")) {
+            runBatch(args);
+            return;
+        }
+
         System.out.println("----------------------------------------");
         System.out.println("Landfill Labs - Worker Service Prototype");
         System.out.println("----------------------------------------");
@@ -46,6 +64,99 @@ public class Main {
         System.out.println("----------------------------------------");
     }
 
+    // Batch options that take a value.
+    private static final List<String> VALUE_OPTIONS = List.of("--threads", "--cache", "--store", "--network");
+
+    private static void runBatch(String[] args) {
+        // Everything after --batch is the scenarios file, an optional results file and any options
+        List<String> files = new ArrayList<>();
+        int threads = 1;
+        int cacheEntries = 0;
+        String storeFile = null;
+        String networkFile = null;
+        boolean missingValue = false;
+        for (int i = 1; i < args.length; i++) {
+            if (Objects.equals(args[i], "--stats")) {
+                continue;
+            } else if (VALUE_OPTIONS.contains(args[i]) && i + 1 == args.length) {
+                // e.g. a trailing --store, which would otherwise be taken as the results file
+                missingValue = true;
+            } else if (Objects.equals(args[i], "--threads")) {
+                try {
+                    threads = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    threads = 0;
+                }
+            } else if (Objects.equals(args[i], "--cache")) {
+                try {
+                    cacheEntries = Integer.parseInt(args[++i]);
+                } catch (NumberFormatException e) {
+                    cacheEntries = -1;
+                }
+            } else if (Objects.equals(args[i], "--store")) {
+                storeFile = args[++i];
+            } else if (Objects.equals(args[i], "--network")) {
+                networkFile = args[++i];
+            } else {
+                files.add(args[i]);
+            }
+        }
+
+        if (files.isEmpty() || missingValue || threads < 1 || cacheEntries < 0) {
+            System.out.println("Usage: --batch <scenarios file> [results file] [--threads <count>] [--cache <entries>] [--store <file>] [--network <file>] [--stats]");
+            return;
+        }
+
+        // Locations and travel times, from a CSV or a memory-mapped matrix (see LocationNetwork.open)
+        LocationNetwork network;
+        try {
+            network = networkFile != null ? LocationNetwork.open(Path.of(networkFile)) : LocationNetwork.builtIn();
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("Could not read the network: " + e.getMessage());
+            return;
+        }
+
+        Path input = Path.of(files.get(0));
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             Writer writer = files.size() > 1
+                     ? Files.newBufferedWriter(Path.of(files.get(1)), StandardCharsets.UTF_8)
+                     : new OutputStreamWriter(System.out, StandardCharsets.UTF_8) {
+                         @Override
+                         public void close() throws IOException {
+                             flush(); // don't close the console
+                         }
+                     };
+             ScenarioResultStore store = storeFile != null ? ScenarioResultStore.open(Path.of(storeFile), network) : null) {
+            // The in-memory cache sits in front of the store, which sits in front of Utils.
+            Function<ScenarioConfiguration, ScenarioResult> evaluator = store != null ? store::evaluate : Utils::evaluateScenario;
+            ScenarioCache cache = cacheEntries > 0 ? new ScenarioCache(cacheEntries, evaluator) : null;
+            if (cache != null) {
+                evaluator = cache::evaluate;
+            }
+
+            long scenarios;
+            if (threads == 1 && cache == null && store == null) {
+                scenarios = BatchRunner.run(reader, writer, network);
+            } else {
+                try (ScenarioExecutor executor = new ScenarioExecutor(threads, evaluator)) {
+                    scenarios = BatchRunner.run(reader, writer, executor, network);
+                }
+            }
+            System.err.printf("%d scenarios run.%n", scenarios);
+            if (cache != null) {
+                System.err.print(cache.report());
+            }
+            if (store != null) {
+                System.err.print(store.report());
+            }
+            if (ScenarioMetrics.isEnabled()) {
+                System.err.print(ScenarioMetrics.report());
+            }
+        } catch (IOException e) {
+            System.out.println("Batch run failed: " + e.getMessage());
+        }
+    }
+
     private static void showOptions() {
         System.out.println("Options (enter number to select):");
         System.out.println("1. Configure/Run Scenario.");
@@ -58,7 +169,9 @@ public class Main {
         System.out.println("About:");
         System.out.println("- This is a prototype of the Landfill Labs Worker Service.");
         System.out.println("- Use it to configure and run a single waste management scenario.");
-        System.out.println("- To run multiple scenarios, you should run the aplicato multiple times.");
+        System.out.println("- To run multiple scenarios, run the application with --batch <scenarios file> [results file].");
+        System.out.println("  Add --threads <count>, --cache <entries> or --store <file> to run them faster (see the README).");
+        System.out.println("  Add --network <file> to use your own locations and travel times.");
         System.out.println("- If you're confused, you may wish to consult the application specification or contact Four Walls Software.");
         System.out.println();
     }
@@ -246,10 +359,9 @@ public class Main {
         System.out.println();
 
         // Sam @FourWallsSoft: run the configured scenario
-        List<Recycling> viableCentres = Utils.findViableCentres(scenarioConfiguration.getHistoric(), scenarioConfiguration.getRecycling());
-        Recycling optimalCentre = Utils.findOptimalCentre(scenarioConfiguration.getHistoric(), viableCentres);
-        double travelDuration = Utils.calculateTravelDuration(scenarioConfiguration.getHistoric(), optimalCentre);
-        double processDuration = Utils.calculateProcessDuration(scenarioConfiguration.getHistoric(), optimalCentre);
+        ScenarioResult result = Utils.evaluateScenario(scenarioConfiguration);
+        double travelDuration = result.getTravelDuration();
+        double processDuration = result.getProcessDuration();
 
         // Sam @FourWallsSoft: output the scenario results to the user.
         System.out.println("Scenario successfully completed. Results:");
@@ -262,5 +374,10 @@ public class Main {
 
         System.out.printf("The total duration is therefore: %f.", travelDuration + processDuration);
         System.out.println();
+
+        if (ScenarioMetrics.isEnabled()) {
+            System.out.println();
+            System.out.print(ScenarioMetrics.report());
+        }
     }
 }
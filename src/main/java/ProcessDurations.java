@@ -0,0 +1,70 @@
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+// Process durations for many historic sites at once: for each site i,
+//   plasticGlass[i] / plasticGlassRates[i] + paper[i] / paperRates[i] + metallic[i] / metallicRates[i]
+// which is the same sum, in the same order, as Utils.calculateProcessDuration, so the results are identical.
+// Uses the Vector API kernel when it was built (the vector profile, see pom.xml) and the JVM was started with
+// --add-modules jdk.incubator.vector, and a plain loop otherwise.
+public final class ProcessDurations {
+
+    // Looked up by name, so the default build needs neither the kernel nor the incubator module. Null when unavailable.
+    private static final MethodHandle VECTOR_KERNEL = findVectorKernel();
+
+    private ProcessDurations() {
+    }
+
+    public static boolean isVectorised() {
+        return VECTOR_KERNEL != null;
+    }
+
+    public static void calculate(double[] plasticGlass, double[] paper, double[] metallic,
+                                 double[] plasticGlassRates, double[] paperRates, double[] metallicRates,
+                                 double[] durations) {
+        int length = durations.length;
+        if (plasticGlass.length != length || paper.length != length || metallic.length != length
+                || plasticGlassRates.length != length || paperRates.length != length || metallicRates.length != length) {
+            throw new IllegalArgumentException("Waste, rate and duration arrays must all be the same length");
+        }
+
+        int from = 0;
+        if (VECTOR_KERNEL != null) {
+            try {
+                from = (int) VECTOR_KERNEL.invokeExact(plasticGlass, paper, metallic, plasticGlassRates, paperRates, metallicRates, durations);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Vector kernel failed", e);
+            }
+        }
+        calculateScalar(plasticGlass, paper, metallic, plasticGlassRates, paperRates, metallicRates, durations, from);
+    }
+
+    // Fills durations from index from onwards; the vector kernel leaves the tail that doesn't fill a whole vector.
+    static void calculateScalar(double[] plasticGlass, double[] paper, double[] metallic,
+                                double[] plasticGlassRates, double[] paperRates, double[] metallicRates,
+                                double[] durations, int from) {
+        for (int i = from; i < durations.length; i++) {
+            durations[i] = plasticGlass[i] / plasticGlassRates[i]
+                    + paper[i] / paperRates[i]
+                    + metallic[i] / metallicRates[i];
+        }
+    }
+
+    private static MethodHandle findVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+
+        try {
+            Class<?> kernel = Class.forName("VectorProcessDurations");
+            MethodType type = MethodType.methodType(int.class, double[].class, double[].class, double[].class,
+                    double[].class, double[].class, double[].class, double[].class);
+            return MethodHandles.lookup().findStatic(kernel, "calculate", type);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Built without the vector profile.
+            return null;
+        }
+    }
+}
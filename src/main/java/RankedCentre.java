@@ -0,0 +1,38 @@
+import models.Recycling;
+
+// A recycling centre together with its position in a ranking and the durations it would give for the ranked scenario.
+public final class RankedCentre {
+
+    private final int rank;
+    private final Recycling centre;
+    private final double travelDuration;
+    private final double processDuration;
+
+    public RankedCentre(int rank, Recycling centre, double travelDuration, double processDuration) {
+        this.rank = rank;
+        this.centre = centre;
+        this.travelDuration = travelDuration;
+        this.processDuration = processDuration;
+    }
+
+    // 1 for the best centre, 2 for the next and so on.
+    public int getRank() {
+        return this.rank;
+    }
+
+    public Recycling getCentre() {
+        return this.centre;
+    }
+
+    public double getTravelDuration() {
+        return this.travelDuration;
+    }
+
+    public double getProcessDuration() {
+        return this.processDuration;
+    }
+
+    public double getTotalDuration() {
+        return this.travelDuration + this.processDuration;
+    }
+}
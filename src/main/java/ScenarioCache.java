@@ -0,0 +1,121 @@
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+// A bounded, least-recently-used cache of scenario results in front of an evaluator (Utils.evaluateScenario by
+// default), keyed by ScenarioFingerprint, so a repeat of an earlier scenario costs a hash lookup. Each entry also keeps
+// the scenario's ScenarioKey, and a hit only counts when the keys match, so two scenarios sharing a fingerprint are
+// never given each other's result; the later one simply replaces the earlier one.
+// Scenarios with the same centres in a different order share an entry. The cached result then holds the earlier
+// scenario's centre objects, which are equal in every respect that affects the result, and lists the viable centres
+// in the earlier scenario's order.
+// Failures are not cached. Safe to share between threads, e.g. as a ScenarioExecutor's evaluator via cache::evaluate.
+public final class ScenarioCache {
+
+    private final int maxEntries;
+    private final Function<ScenarioConfiguration, ScenarioResult> evaluator;
+    private final ToLongFunction<ScenarioConfiguration> fingerprint;
+    private final Map<Long, Entry> results;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ScenarioCache(int maxEntries) {
+        this(maxEntries, Utils::evaluateScenario);
+    }
+
+    public ScenarioCache(int maxEntries, Function<ScenarioConfiguration, ScenarioResult> evaluator) {
+        this(maxEntries, evaluator, ScenarioFingerprint::of);
+    }
+
+    ScenarioCache(int maxEntries, Function<ScenarioConfiguration, ScenarioResult> evaluator,
+                  ToLongFunction<ScenarioConfiguration> fingerprint) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one result");
+        }
+
+        this.maxEntries = maxEntries;
+        this.evaluator = evaluator;
+        this.fingerprint = fingerprint;
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ScenarioCache.this.maxEntries) {
+                    ScenarioCache.this.evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public ScenarioResult evaluate(ScenarioConfiguration scenario) {
+        Long fingerprint = this.fingerprint.applyAsLong(scenario);
+        ScenarioKey key = ScenarioKey.of(scenario);
+
+        Entry entry;
+        synchronized (this.results) {
+            entry = this.results.get(fingerprint);
+        }
+        if (entry != null && entry.key.equals(key)) {
+            this.hits.increment();
+            return entry.result;
+        }
+
+        // Evaluated outside the lock, so other threads aren't held up. Two threads missing on the same scenario
+        // both evaluate it, and the second result simply replaces the first.
+        this.misses.increment();
+        ScenarioResult result = this.evaluator.apply(scenario);
+        synchronized (this.results) {
+            this.results.put(fingerprint, new Entry(key, result));
+        }
+        return result;
+    }
+
+    public int size() {
+        synchronized (this.results) {
+            return this.results.size();
+        }
+    }
+
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    public void clear() {
+        synchronized (this.results) {
+            this.results.clear();
+        }
+    }
+
+    public String report() {
+        return String.format(Locale.ROOT, "Cache: %d hits, %d misses, %d evictions, %d/%d entries%n",
+                getHitCount(), getMissCount(), getEvictionCount(), size(), this.maxEntries);
+    }
+
+    private static final class Entry {
+        private final ScenarioKey key;
+        private final ScenarioResult result;
+
+        private Entry(ScenarioKey key, ScenarioResult result) {
+            this.key = key;
+            this.result = result;
+        }
+    }
+}
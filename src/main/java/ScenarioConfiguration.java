@@ -1,21 +1,49 @@
 import models.Historic;
+import models.LocationNetwork;
 import models.Recycling;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 public class ScenarioConfiguration {
 
     private Historic historic;
-    private List<Recycling> recycling;
+    private CentreList recycling;
+    private final LocationNetwork network;
+
+    // The viable centres and the optimal one among them, kept up to date as centres are added and removed, so
+    // interactive changes don't re-run the whole pipeline. Worked out in full the first time they are asked for and
+    // whenever they no longer match.
+    // They match while tracking is set, the centre list is at the version and size they were worked out at, and the
+    // historic site still has or lacks metallic waste, all of which is O(1) to check. Every change made through
+    // getRecycling() bumps the version. The list passed to the constructor can also be changed directly, which only
+    // shows up as a change of size, so replacing a centre in place through it isn't noticed.
+    private final List<Recycling> viableCentres = new ArrayList<>();
+    private final List<Recycling> viableView = Collections.unmodifiableList(this.viableCentres);
+    private Recycling optimalCentre;
+    private boolean tracking;
+    private int trackedVersion;
+    private int trackedSize;
+    private boolean trackedMetallicPresent;
 
     public ScenarioConfiguration() {
-        this.recycling = new ArrayList<>();
+        this.recycling = new CentreList(new ArrayList<>());
+        this.network = LocationNetwork.builtIn();
     }
 
     public ScenarioConfiguration(Historic historic, List<Recycling> recycling) {
+        this(historic, recycling, LocationNetwork.builtIn());
+    }
+
+    // A scenario whose travel times come from the given network, e.g. one read by LocationNetwork.load.
+    public ScenarioConfiguration(Historic historic, List<Recycling> recycling, LocationNetwork network) {
         this.historic = historic;
-        this.recycling = recycling;
+        this.recycling = recycling == null ? null : new CentreList(recycling);
+        this.network = network;
     }
 
     public Historic getHistoric() {
@@ -24,13 +52,169 @@ public class ScenarioConfiguration {
 
     public void setHistoric(Historic historic) {
         this.historic = historic;
+        this.tracking = false;
+    }
+
+    public LocationNetwork getNetwork() {
+        return this.network;
     }
 
+    // The list passed to the constructor, seen through a list that notes every change made to it.
     public List<Recycling> getRecycling() {
         return this.recycling;
     }
 
+    // O(1) once the viable centres are being tracked: the new centre only has to be checked and compared with the
+    // current optimal centre. It goes last in the list, so it only takes over when it is strictly better.
     public void addRecycling(Recycling additionalRecycling) {
+        boolean current = isTracked();
         this.recycling.add(additionalRecycling);
+
+        if (!current) {
+            return;
+        }
+        if (additionalRecycling == null) {
+            this.tracking = false;
+            return;
+        }
+
+        if (Utils.isViable(this.historic, additionalRecycling, this.network)) {
+            this.viableCentres.add(additionalRecycling);
+            if (this.optimalCentre == null || Utils.isBetterCentre(this.historic, additionalRecycling, this.optimalCentre, this.network)) {
+                this.optimalCentre = additionalRecycling;
+            }
+        }
+        track();
+    }
+
+    // Removes the first occurrence of the centre. The optimal centre is only worked out again when it was the one removed.
+    public boolean removeRecycling(Recycling removedRecycling) {
+        int index = this.recycling.indexOf(removedRecycling);
+        if (index < 0) {
+            return false;
+        }
+        boolean current = isTracked();
+        this.recycling.remove(index);
+
+        if (!current) {
+            return true;
+        }
+
+        // The viable centres are in list order, so the first viable occurrence is the one just removed.
+        if (this.viableCentres.remove(removedRecycling) && removedRecycling == this.optimalCentre) {
+            this.optimalCentre = selectOptimal(this.historic, this.viableCentres, this.network);
+        }
+        track();
+        return true;
+    }
+
+    // Same centres as Utils.filterViableCentres, in list order. A read-only view, which follows the scenario each time
+    // the viable or optimal centres are asked for.
+    public List<Recycling> getViableCentres() {
+        updateViableCentres();
+        return this.viableView;
+    }
+
+    // Same centre, and the same NoSuchElementException cases, as Utils.findOptimalCentre over the viable centres.
+    public Recycling getOptimalCentre() {
+        updateViableCentres();
+
+        if (this.optimalCentre == null) {
+            throw new NoSuchElementException("No candidate centres to choose from");
+        }
+        if (this.optimalCentre.getGenerationType() == null) {
+            throw new NoSuchElementException("No centre of a known generation among the nearest, least active centres");
+        }
+        return this.optimalCentre;
+    }
+
+    private void updateViableCentres() {
+        if (isTracked()) {
+            return;
+        }
+
+        List<Recycling> viable = Utils.filterViableCentres(this.historic, this.recycling, this.network);
+        this.viableCentres.clear();
+        this.viableCentres.addAll(viable);
+        this.optimalCentre = selectOptimal(this.historic, this.viableCentres, this.network);
+        this.trackedMetallicPresent = this.historic.getMetallic() > 0;
+        track();
+    }
+
+    private boolean isTracked() {
+        return this.tracking
+                && this.recycling.version == this.trackedVersion
+                && this.recycling.size() == this.trackedSize
+                && (this.historic.getMetallic() > 0) == this.trackedMetallicPresent;
+    }
+
+    private void track() {
+        this.tracking = true;
+        this.trackedVersion = this.recycling.version;
+        this.trackedSize = this.recycling.size();
+    }
+
+    // Unlike Utils.selectOptimalCentre this never throws, so the rules are only applied when the centre is asked for.
+    private static Recycling selectOptimal(Historic historic, List<Recycling> viableCentres, LocationNetwork network) {
+        Recycling best = null;
+        for (Recycling centre : viableCentres) {
+            if (best == null || Utils.isBetterCentre(historic, centre, best, network)) {
+                best = centre;
+            }
+        }
+        return best;
+    }
+
+    // A list backed by the caller's list of centres, with a version that every change made through it bumps.
+    private static final class CentreList extends AbstractList<Recycling> {
+        private final List<Recycling> centres;
+        private int version;
+
+        private CentreList(List<Recycling> centres) {
+            this.centres = centres;
+        }
+
+        @Override
+        public Recycling get(int index) {
+            return this.centres.get(index);
+        }
+
+        @Override
+        public int size() {
+            return this.centres.size();
+        }
+
+        @Override
+        public Recycling set(int index, Recycling centre) {
+            Recycling previous = this.centres.set(index, centre);
+            this.version++;
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Recycling centre) {
+            this.centres.add(index, centre);
+            this.version++;
+            this.modCount++;
+        }
+
+        @Override
+        public Recycling remove(int index) {
+            Recycling removed = this.centres.remove(index);
+            this.version++;
+            this.modCount++;
+            return removed;
+        }
+
+        // Handed straight to the caller's list, e.g. for Utils.findViableCentres, rather than one element at a time.
+        @Override
+        public boolean removeIf(Predicate<? super Recycling> filter) {
+            boolean removed = this.centres.removeIf(filter);
+            if (removed) {
+                this.version++;
+                this.modCount++;
+            }
+            return removed;
+        }
     }
 }
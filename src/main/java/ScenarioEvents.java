@@ -0,0 +1,109 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Java Flight Recorder events for scenario evaluation, so slow scenarios in a recording can be tied back to their inputs.
+// Each event is a duration event: its start and end time bracket the stage it describes. They are only populated and
+// committed when a recording has them enabled, which keeps the cost close to zero otherwise.
+final class ScenarioEvents {
+
+    private ScenarioEvents() {
+    }
+
+    @Name("landfilllabs.ScenarioEvaluation")
+    @Label("Scenario Evaluation")
+    @Category({"Landfill Labs", "Scenario"})
+    @Description("A complete scenario evaluation: viable, optimal, travel and process stages")
+    @StackTrace(false)
+    static final class Evaluation extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Initial Waste")
+        @Description("Waste at the historic site, in metres cubed")
+        double initialWaste;
+
+        @Label("Candidate Count")
+        int candidateCount;
+
+        @Label("Viable Count")
+        int viableCount;
+
+        @Label("Chosen Location")
+        String chosenLocation;
+
+        @Label("Chosen Generation")
+        String chosenGeneration;
+
+        @Label("Total Duration")
+        @Description("Travel plus process duration for the scenario, in hours")
+        double totalDuration;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("landfilllabs.ViabilityFilter")
+    @Label("Viability Filter")
+    @Category({"Landfill Labs", "Scenario"})
+    @StackTrace(false)
+    static final class ViabilityFilter extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Metallic Waste Present")
+        boolean metallicPresent;
+
+        @Label("Candidate Count")
+        int candidateCount;
+
+        @Label("Viable Count")
+        int viableCount;
+    }
+
+    @Name("landfilllabs.OptimalSelection")
+    @Label("Optimal Centre Selection")
+    @Category({"Landfill Labs", "Scenario"})
+    @StackTrace(false)
+    static final class OptimalSelection extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Viable Count")
+        int viableCount;
+
+        @Label("Chosen Location")
+        String chosenLocation;
+
+        @Label("Chosen Generation")
+        String chosenGeneration;
+
+        @Label("Chosen Years Active")
+        int chosenYearsActive;
+    }
+
+    @Name("landfilllabs.TripPlanning")
+    @Label("Trip Planning")
+    @Category({"Landfill Labs", "Scenario"})
+    @StackTrace(false)
+    static final class TripPlanning extends Event {
+        @Label("Historic Location")
+        String historicLocation;
+
+        @Label("Centre Location")
+        String centreLocation;
+
+        @Label("Initial Waste")
+        double initialWaste;
+
+        @Label("Trips")
+        long trips;
+
+        @Label("Travel Duration")
+        @Description("Total travel time for every trip, in hours")
+        double travelDuration;
+    }
+}
@@ -0,0 +1,90 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+// Evaluates many scenarios concurrently on a ForkJoin pool. Results come back in the same order as the scenarios were
+// given, and a scenario that throws only fails its own outcome, never the rest of the batch.
+// Relies on the evaluator being free of side effects, which Utils.evaluateScenario is.
+public final class ScenarioExecutor implements AutoCloseable {
+
+    // Scenarios are cheap to evaluate, so each task takes a run of them rather than one at a time.
+    private static final int SCENARIOS_PER_TASK = 64;
+
+    private final ForkJoinPool pool;
+    private final Function<ScenarioConfiguration, ScenarioResult> evaluator;
+
+    public ScenarioExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ScenarioExecutor(int parallelism) {
+        this(parallelism, Utils::evaluateScenario);
+    }
+
+    public ScenarioExecutor(int parallelism, Function<ScenarioConfiguration, ScenarioResult> evaluator) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+
+        this.pool = new ForkJoinPool(parallelism);
+        this.evaluator = evaluator;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public List<ScenarioOutcome> evaluateAll(Collection<ScenarioConfiguration> scenarios) {
+        ScenarioConfiguration[] input = scenarios.toArray(new ScenarioConfiguration[0]);
+        ScenarioOutcome[] outcomes = new ScenarioOutcome[input.length];
+
+        this.pool.invoke(new EvaluateRange(input, outcomes, 0, input.length));
+
+        return new ArrayList<>(Arrays.asList(outcomes));
+    }
+
+    ScenarioOutcome evaluate(ScenarioConfiguration scenario) {
+        try {
+            return ScenarioOutcome.success(this.evaluator.apply(scenario));
+        } catch (RuntimeException e) {
+            return ScenarioOutcome.failure(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.pool.shutdown();
+    }
+
+    private final class EvaluateRange extends RecursiveAction {
+        private final ScenarioConfiguration[] scenarios;
+        private final ScenarioOutcome[] outcomes;
+        private final int from;
+        private final int to;
+
+        private EvaluateRange(ScenarioConfiguration[] scenarios, ScenarioOutcome[] outcomes, int from, int to) {
+            this.scenarios = scenarios;
+            this.outcomes = outcomes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= SCENARIOS_PER_TASK) {
+                for (int i = this.from; i < this.to; i++) {
+                    this.outcomes[i] = evaluate(this.scenarios[i]);
+                }
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new EvaluateRange(this.scenarios, this.outcomes, this.from, middle),
+                    new EvaluateRange(this.scenarios, this.outcomes, middle, this.to));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+import models.Historic;
+import models.Location;
+import models.Recycling;
+
+import java.util.List;
+
+// A 64-bit fingerprint of everything a scenario's result depends on: the historic site's location and waste, and the
+// multiset of centres (location, generation, yearsActive and rates). Centres are hashed one at a time and the hashes
+// are added together, so the fingerprint doesn't depend on the order of the centre list.
+// Locations count by name, so the fingerprint doesn't say which network the scenario is on.
+// Different scenarios can in principle share a fingerprint, but with 64 well-mixed bits the odds are negligible for
+// any realistic number of scenarios.
+public final class ScenarioFingerprint {
+
+    private ScenarioFingerprint() {
+    }
+
+    public static long of(ScenarioConfiguration scenario) {
+        return of(scenario.getHistoric(), scenario.getRecycling());
+    }
+
+    public static long of(Historic historic, List<Recycling> centres) {
+        long centresHash = 0;
+        for (Recycling centre : centres) {
+            centresHash += centreHash(centre);
+        }
+
+        long hash = mix(locationHash(historic.getLocation(), historic.getLocationName()));
+        hash = mix(hash ^ Double.doubleToLongBits(historic.getRemainingWaste()));
+        hash = mix(hash ^ Double.doubleToLongBits(historic.getPlasticGlass()));
+        hash = mix(hash ^ Double.doubleToLongBits(historic.getPaper()));
+        hash = mix(hash ^ Double.doubleToLongBits(historic.getMetallic()));
+        hash = mix(hash ^ centres.size());
+        return mix(hash ^ centresHash);
+    }
+
+    private static long centreHash(Recycling centre) {
+        Recycling.Generation generation = centre.getGenerationType();
+
+        long hash = mix(locationHash(centre.getLocation(), centre.getLocationName()));
+        hash = mix(hash ^ (generation == null ? -1 : generation.ordinal()));
+        hash = mix(hash ^ centre.getYearsActive());
+        // Centres of an unknown generation can have any rates, so the rates are part of the centre too.
+        hash = mix(hash ^ Double.doubleToLongBits(centre.getPlasticGlassRate()));
+        hash = mix(hash ^ Double.doubleToLongBits(centre.getPaperRate()));
+        return mix(hash ^ Double.doubleToLongBits(centre.getMetallicRate()));
+    }
+
+    // Built-in locations by ordinal, so their fingerprints are the same as before networks could be loaded, and any
+    // other location by name, with the top bit set so it can't collide with an ordinal.
+    private static long locationHash(Location location, String name) {
+        return location != null ? location.ordinal() : Long.MIN_VALUE | name.hashCode() & 0xFFFFFFFFL;
+    }
+
+    // The SplitMix64 finaliser: every input bit affects every output bit.
+    private static long mix(long z) {
+        z += 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
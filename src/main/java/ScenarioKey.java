@@ -0,0 +1,84 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+// The exact form of what a ScenarioFingerprint hashes, so two scenarios that share a fingerprint can still be told
+// apart: the network, the historic site's location and waste split, and the centres as a sorted array of
+// (location, generation, yearsActive), so it doesn't depend on the order of the centre list either.
+// The rates of centres of an unknown generation aren't part of it. Such a centre is never the optimal one, so its rates
+// can't change the result.
+final class ScenarioKey {
+
+    // location id, remaining waste, plastic/glass, paper and metallic, then one value per centre.
+    static final int SITE_VALUES = 5;
+
+    private final LocationNetwork network;
+    private final long[] values;
+
+    private ScenarioKey(LocationNetwork network, long[] values) {
+        this.network = network;
+        this.values = values;
+    }
+
+    static ScenarioKey of(ScenarioConfiguration scenario) {
+        LocationNetwork network = scenario.getNetwork();
+        Historic historic = scenario.getHistoric();
+        List<Recycling> centres = scenario.getRecycling();
+
+        long[] values = new long[SITE_VALUES + centres.size()];
+        values[0] = network.idOf(historic);
+        values[1] = Double.doubleToLongBits(historic.getRemainingWaste());
+        values[2] = Double.doubleToLongBits(historic.getPlasticGlass());
+        values[3] = Double.doubleToLongBits(historic.getPaper());
+        values[4] = Double.doubleToLongBits(historic.getMetallic());
+        for (int i = 0; i < centres.size(); i++) {
+            values[SITE_VALUES + i] = centreValue(network.idOf(centres.get(i)), centres.get(i));
+        }
+        Arrays.sort(values, SITE_VALUES, values.length);
+        return new ScenarioKey(network, values);
+    }
+
+    // The location id and generation (0 for an unknown one, otherwise rank + 1) in the high half and yearsActive in the
+    // low half. Location ids fit in 30 bits, as a network with more locations would need an impossibly large matrix.
+    private static long centreValue(int location, Recycling centre) {
+        Recycling.Generation generation = centre.getGenerationType();
+        int locationAndGeneration = location << 2 | (generation == null ? 0 : generation.getRank() + 1);
+        return (long) locationAndGeneration << 32 | centre.getYearsActive() & 0xFFFFFFFFL;
+    }
+
+    // The number of values write puts in a buffer, 8 bytes each.
+    int length() {
+        return this.values.length;
+    }
+
+    // Writes the values, leaving out the network.
+    void write(ByteBuffer buffer) {
+        for (long value : this.values) {
+            buffer.putLong(value);
+        }
+    }
+
+    // Whether the next length values in the buffer are the ones write would put there. Reads all of them either way.
+    boolean matches(ByteBuffer buffer, int length) {
+        boolean matches = length == this.values.length;
+        for (int i = 0; i < length; i++) {
+            long value = buffer.getLong();
+            matches &= i < this.values.length && value == this.values[i];
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ScenarioKey key && this.network == key.network && Arrays.equals(this.values, key.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+}
@@ -0,0 +1,120 @@
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide timings and counters for scenario evaluation. Disabled by default; while disabled, Utils.evaluateScenario
+// checks a single flag and skips all of the timing, so leaving the instrumentation in place costs next to nothing.
+public final class ScenarioMetrics {
+
+    public enum Stage {
+        VIABLE, OPTIMAL, TRAVEL, PROCESS
+    }
+
+    private static volatile boolean enabled;
+
+    private static final Map<Stage, LatencyHistogram> STAGE_LATENCIES = new EnumMap<>(Stage.class);
+    private static final LatencyHistogram SCENARIO_LATENCY = new LatencyHistogram();
+    private static final LongAdder SCENARIOS = new LongAdder();
+    private static final LongAdder FAILED_SCENARIOS = new LongAdder();
+    private static final LongAdder CANDIDATES_IN = new LongAdder();
+    private static final LongAdder VIABLE_OUT = new LongAdder();
+    private static final LongAdder TRANSPORTS = new LongAdder();
+
+    static {
+        for (Stage stage : Stage.values()) {
+            STAGE_LATENCIES.put(stage, new LatencyHistogram());
+        }
+    }
+
+    private ScenarioMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ScenarioMetrics.enabled = enabled;
+    }
+
+    static void recordStage(Stage stage, long nanos) {
+        STAGE_LATENCIES.get(stage).record(nanos);
+    }
+
+    static void recordScenario(long nanos, int candidatesIn, int viableOut, long transports) {
+        SCENARIO_LATENCY.record(nanos);
+        SCENARIOS.increment();
+        CANDIDATES_IN.add(candidatesIn);
+        VIABLE_OUT.add(viableOut);
+        TRANSPORTS.add(transports);
+    }
+
+    static void recordFailure() {
+        FAILED_SCENARIOS.increment();
+    }
+
+    public static LatencyHistogram getStageLatency(Stage stage) {
+        return STAGE_LATENCIES.get(stage);
+    }
+
+    public static LatencyHistogram getScenarioLatency() {
+        return SCENARIO_LATENCY;
+    }
+
+    public static long getScenarios() {
+        return SCENARIOS.sum();
+    }
+
+    public static long getFailedScenarios() {
+        return FAILED_SCENARIOS.sum();
+    }
+
+    // Centres passed to the viability filter, and the number of those that came out viable.
+    public static long getCandidatesIn() {
+        return CANDIDATES_IN.sum();
+    }
+
+    public static long getViableOut() {
+        return VIABLE_OUT.sum();
+    }
+
+    // Transport journeys needed by the evaluated scenarios.
+    public static long getTransports() {
+        return TRANSPORTS.sum();
+    }
+
+    public static void reset() {
+        for (LatencyHistogram histogram : STAGE_LATENCIES.values()) {
+            histogram.reset();
+        }
+        SCENARIO_LATENCY.reset();
+        SCENARIOS.reset();
+        FAILED_SCENARIOS.reset();
+        CANDIDATES_IN.reset();
+        VIABLE_OUT.reset();
+        TRANSPORTS.reset();
+    }
+
+    public static String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Scenarios: %d completed, %d failed%n", getScenarios(), getFailedScenarios()));
+        report.append(String.format(Locale.ROOT, "Candidates: %d in, %d viable; transports: %d%n", getCandidatesIn(), getViableOut(), getTransports()));
+        report.append(String.format(Locale.ROOT, "%-9s %10s %12s %12s %12s %12s%n", "Stage", "count", "mean (us)", "p50 (us)", "p99 (us)", "max (us)"));
+        for (Stage stage : Stage.values()) {
+            appendLatency(report, stage.name(), STAGE_LATENCIES.get(stage));
+        }
+        appendLatency(report, "TOTAL", SCENARIO_LATENCY);
+        return report.toString();
+    }
+
+    private static void appendLatency(StringBuilder report, String name, LatencyHistogram histogram) {
+        report.append(String.format(Locale.ROOT, "%-9s %10d %12.2f %12.2f %12.2f %12.2f%n",
+                name,
+                histogram.getCount(),
+                histogram.getMeanNanos() / 1000.0,
+                histogram.getPercentileNanos(50) / 1000.0,
+                histogram.getPercentileNanos(99) / 1000.0,
+                histogram.getMaxNanos() / 1000.0));
+    }
+}
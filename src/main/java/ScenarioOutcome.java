@@ -0,0 +1,36 @@
+import java.util.NoSuchElementException;
+
+// The outcome of one scenario in a batch: either its result or the exception that stopped it being evaluated.
+public final class ScenarioOutcome {
+
+    private final ScenarioResult result;
+    private final RuntimeException error;
+
+    private ScenarioOutcome(ScenarioResult result, RuntimeException error) {
+        this.result = result;
+        this.error = error;
+    }
+
+    public static ScenarioOutcome success(ScenarioResult result) {
+        return new ScenarioOutcome(result, null);
+    }
+
+    public static ScenarioOutcome failure(RuntimeException error) {
+        return new ScenarioOutcome(null, error);
+    }
+
+    public boolean isSuccess() {
+        return this.error == null;
+    }
+
+    public ScenarioResult getResult() {
+        if (this.error != null) {
+            throw new NoSuchElementException("Scenario failed: " + this.error.getMessage());
+        }
+        return this.result;
+    }
+
+    public RuntimeException getError() {
+        return this.error;
+    }
+}
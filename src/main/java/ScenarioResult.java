@@ -0,0 +1,39 @@
+import models.Recycling;
+
+import java.util.List;
+
+// The outcome of evaluating a single scenario. Results are immutable and independent of the configuration that produced them.
+public final class ScenarioResult {
+
+    private final List<Recycling> viableCentres;
+    private final Recycling optimalCentre;
+    private final double travelDuration;
+    private final double processDuration;
+
+    public ScenarioResult(List<Recycling> viableCentres, Recycling optimalCentre, double travelDuration, double processDuration) {
+        this.viableCentres = List.copyOf(viableCentres);
+        this.optimalCentre = optimalCentre;
+        this.travelDuration = travelDuration;
+        this.processDuration = processDuration;
+    }
+
+    public List<Recycling> getViableCentres() {
+        return this.viableCentres;
+    }
+
+    public Recycling getOptimalCentre() {
+        return this.optimalCentre;
+    }
+
+    public double getTravelDuration() {
+        return this.travelDuration;
+    }
+
+    public double getProcessDuration() {
+        return this.processDuration;
+    }
+
+    public double getTotalDuration() {
+        return this.travelDuration + this.processDuration;
+    }
+}
@@ -0,0 +1,437 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32C;
+
+// Scenario results kept in a local append-only file, so a later batch run or a restarted worker can skip scenarios
+// that were already evaluated. Results are keyed by ScenarioFingerprint and found through an in-memory open-addressing
+// index of file offsets, rebuilt by scanning the file when it is opened. Each record also holds the scenario's
+// ScenarioKey, and a stored result is only used when the key matches, so scenarios sharing a fingerprint don't get each
+// other's results.
+// The file starts with a stamp of the rules (the network's locations and travel times, transport capacity, viability
+// limit, metallic threshold and generation rates). If the stamp doesn't match the current rules, every stored result is
+// thrown away. A store keeps the results of one network; scenarios on any other network are evaluated without it.
+// Every record ends in a CRC32C of the rest of it. Opening the file keeps the records up to the first one that is cut
+// short or fails its checksum, and drops that record and everything after it.
+// Only results whose centres are all of a known generation are stored, because centres are rebuilt from their
+// location, generation and yearsActive; a stored result holds new centre objects equal to the originals.
+// Safe to share between threads, e.g. as a ScenarioExecutor's or ScenarioCache's evaluator via store::evaluate.
+public final class ScenarioResultStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x4C4C5253; // "LLRS"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 8;
+
+    // fingerprint, travel duration, process duration, key length, viable count, then the optimal centre. The key's
+    // values, the viable centres and the checksum follow.
+    private static final int RECORD_FIXED_BYTES = 8 + 8 + 8 + 4 + 4 + 9;
+    private static final int CENTRE_BYTES = 9; // location id, generation, yearsActive
+    private static final int CHECKSUM_BYTES = 4;
+
+    private final FileChannel channel;
+    private final LocationNetwork network;
+    private final Function<ScenarioConfiguration, ScenarioResult> evaluator;
+    private final ToLongFunction<ScenarioConfiguration> fingerprint;
+    private final OffsetIndex index = new OffsetIndex();
+    private long end;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ScenarioResultStore(FileChannel channel, LocationNetwork network,
+                                Function<ScenarioConfiguration, ScenarioResult> evaluator,
+                                ToLongFunction<ScenarioConfiguration> fingerprint) {
+        this.channel = channel;
+        this.network = network;
+        this.evaluator = evaluator;
+        this.fingerprint = fingerprint;
+    }
+
+    public static ScenarioResultStore open(Path file) throws IOException {
+        return open(file, LocationNetwork.builtIn());
+    }
+
+    public static ScenarioResultStore open(Path file, Function<ScenarioConfiguration, ScenarioResult> evaluator) throws IOException {
+        return open(file, LocationNetwork.builtIn(), evaluator);
+    }
+
+    public static ScenarioResultStore open(Path file, LocationNetwork network) throws IOException {
+        return open(file, network, Utils::evaluateScenario);
+    }
+
+    public static ScenarioResultStore open(Path file, LocationNetwork network,
+                                           Function<ScenarioConfiguration, ScenarioResult> evaluator) throws IOException {
+        return open(file, network, evaluator, ScenarioFingerprint::of);
+    }
+
+    static ScenarioResultStore open(Path file, LocationNetwork network, Function<ScenarioConfiguration, ScenarioResult> evaluator,
+                                    ToLongFunction<ScenarioConfiguration> fingerprint) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ScenarioResultStore store = new ScenarioResultStore(channel, network, evaluator, fingerprint);
+            store.load();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static long rulesStamp() {
+        return rulesStamp(LocationNetwork.builtIn());
+    }
+
+    // A hash of every rule a stored result depends on, other than what the fingerprint already covers. Reads every
+    // travel time of the network once.
+    static long rulesStamp(LocationNetwork network) {
+        long stamp = 0xcbf29ce484222325L;
+        for (int from = 0; from < network.size(); from++) {
+            stamp = (stamp ^ network.nameOf(from).hashCode()) * 0x100000001b3L;
+            for (int to = 0; to < network.size(); to++) {
+                stamp = stampDouble(stamp, network.travelTime(from, to));
+            }
+        }
+        stamp = stampDouble(stamp, Utils.TRANSPORT_CAPACITY);
+        stamp = stampDouble(stamp, Utils.MAX_VIABLE_TRAVEL_TIME);
+        stamp = stampDouble(stamp, Historic.getMetallicThreshold());
+        for (Recycling.Generation generation : Recycling.Generation.values()) {
+            stamp = (stamp ^ generation.getDisplayName().hashCode()) * 0x100000001b3L;
+            stamp = stampDouble(stamp, generation.getPlasticGlassRate());
+            stamp = stampDouble(stamp, generation.getPaperRate());
+            stamp = stampDouble(stamp, generation.getMetallicRate());
+        }
+        return stamp;
+    }
+
+    private static long stampDouble(long stamp, double value) {
+        return (stamp ^ Double.doubleToLongBits(value)) * 0x100000001b3L;
+    }
+
+    private void load() throws IOException {
+        long stamp = rulesStamp(this.network);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (readFully(header, 0) && header.getInt() == MAGIC && header.getInt() == VERSION && header.getLong() == stamp) {
+            scan();
+            return;
+        }
+
+        // New file, another format or older rules: start again.
+        header.clear();
+        header.putInt(MAGIC).putInt(VERSION).putLong(stamp).flip();
+        this.channel.truncate(0);
+        writeFully(header, 0);
+        this.end = HEADER_BYTES;
+    }
+
+    // Indexes every complete record whose checksum matches. The first record cut short by a crash or damaged on disk,
+    // and anything after it, is dropped.
+    private void scan() throws IOException {
+        long size = this.channel.size();
+        long offset = HEADER_BYTES;
+
+        while (true) {
+            ByteBuffer record = readRecord(offset, size);
+            if (record == null) {
+                break;
+            }
+
+            this.index.put(record.getLong(0), offset);
+            offset += record.limit();
+        }
+
+        if (offset < size) {
+            this.channel.truncate(offset);
+        }
+        this.end = offset;
+    }
+
+    // The whole record at offset, checksum included, or null if there isn't a complete, intact record there.
+    private ByteBuffer readRecord(long offset, long size) throws IOException {
+        if (offset + RECORD_FIXED_BYTES > size) {
+            return null;
+        }
+        ByteBuffer fixed = ByteBuffer.allocate(RECORD_FIXED_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (!readFully(fixed, offset)) {
+            return null;
+        }
+
+        int keyLength = fixed.getInt(24);
+        int viableCount = fixed.getInt(28);
+        if (keyLength < ScenarioKey.SITE_VALUES || viableCount < 0) {
+            return null;
+        }
+        long length = recordLength(keyLength, viableCount);
+        if (length > Integer.MAX_VALUE || offset + length > size) {
+            return null;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+        if (!readFully(record, offset)) {
+            return null;
+        }
+        int checksum = record.getInt(record.limit() - CHECKSUM_BYTES);
+        return checksum(record) == checksum ? record : null;
+    }
+
+    private static long recordLength(int keyLength, int viableCount) {
+        return RECORD_FIXED_BYTES + (long) keyLength * Long.BYTES + (long) viableCount * CENTRE_BYTES + CHECKSUM_BYTES;
+    }
+
+    // CRC32C of everything in the record before its checksum.
+    private static int checksum(ByteBuffer record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.duplicate().position(0).limit(record.limit() - CHECKSUM_BYTES));
+        return (int) crc.getValue();
+    }
+
+    public ScenarioResult evaluate(ScenarioConfiguration scenario) {
+        if (scenario.getNetwork() != this.network) {
+            return this.evaluator.apply(scenario);
+        }
+
+        long fingerprint = this.fingerprint.applyAsLong(scenario);
+        ScenarioKey key = ScenarioKey.of(scenario);
+
+        ScenarioResult result = get(fingerprint, key);
+        if (result != null) {
+            this.hits.increment();
+            return result;
+        }
+
+        this.misses.increment();
+        result = this.evaluator.apply(scenario);
+        put(fingerprint, key, result);
+        return result;
+    }
+
+    // The stored result for the scenario, or null if there isn't one.
+    public ScenarioResult get(ScenarioConfiguration scenario) {
+        if (scenario.getNetwork() != this.network) {
+            return null;
+        }
+        return get(this.fingerprint.applyAsLong(scenario), ScenarioKey.of(scenario));
+    }
+
+    // Stores the result unless it has a centre of an unknown generation or the scenario is on another network. Returns
+    // whether it was stored.
+    public boolean put(ScenarioConfiguration scenario, ScenarioResult result) {
+        if (scenario.getNetwork() != this.network) {
+            return false;
+        }
+        return put(this.fingerprint.applyAsLong(scenario), ScenarioKey.of(scenario), result);
+    }
+
+    // Null when there's no result for the fingerprint, when the stored result is for another scenario with the same
+    // fingerprint, or when the record can't be read back.
+    private ScenarioResult get(long fingerprint, ScenarioKey key) {
+        long offset;
+        long size;
+        synchronized (this) {
+            offset = this.index.get(fingerprint);
+            size = this.end;
+        }
+        if (offset < 0) {
+            return null;
+        }
+
+        try {
+            ByteBuffer record = readRecord(offset, size);
+            if (record == null) {
+                return null;
+            }
+
+            double travelDuration = record.getDouble(8);
+            double processDuration = record.getDouble(16);
+            int keyLength = record.getInt(24);
+            int viableCount = record.getInt(28);
+            record.position(32);
+            Recycling optimalCentre = readCentre(record);
+            if (optimalCentre == null || !key.matches(record, keyLength)) {
+                return null;
+            }
+
+            List<Recycling> viableCentres = new ArrayList<>(viableCount);
+            for (int i = 0; i < viableCount; i++) {
+                Recycling centre = readCentre(record);
+                if (centre == null) {
+                    return null;
+                }
+                viableCentres.add(centre);
+            }
+
+            return new ScenarioResult(viableCentres, optimalCentre, travelDuration, processDuration);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean put(long fingerprint, ScenarioKey key, ScenarioResult result) {
+        if (!isStorable(result.getOptimalCentre())) {
+            return false;
+        }
+        for (Recycling centre : result.getViableCentres()) {
+            if (!isStorable(centre)) {
+                return false;
+            }
+        }
+
+        List<Recycling> viableCentres = result.getViableCentres();
+        ByteBuffer record = ByteBuffer.allocate((int) recordLength(key.length(), viableCentres.size())).order(ByteOrder.LITTLE_ENDIAN);
+        record.putLong(fingerprint)
+                .putDouble(result.getTravelDuration())
+                .putDouble(result.getProcessDuration())
+                .putInt(key.length())
+                .putInt(viableCentres.size());
+        writeCentre(record, result.getOptimalCentre());
+        key.write(record);
+        for (Recycling centre : viableCentres) {
+            writeCentre(record, centre);
+        }
+        record.putInt(checksum(record));
+        record.flip();
+
+        try {
+            synchronized (this) {
+                if (this.index.get(fingerprint) >= 0) {
+                    return true;
+                }
+                writeFully(record, this.end);
+                this.index.put(fingerprint, this.end);
+                this.end += record.limit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private static boolean isStorable(Recycling centre) {
+        return centre.getGenerationType() != null;
+    }
+
+    private void writeCentre(ByteBuffer buffer, Recycling centre) {
+        buffer.putInt(this.network.idOf(centre))
+                .put((byte) centre.getGenerationType().ordinal())
+                .putInt(centre.getYearsActive());
+    }
+
+    // Null if the location or generation is out of range.
+    private Recycling readCentre(ByteBuffer buffer) {
+        int location = buffer.getInt();
+        int generation = buffer.get();
+        int yearsActive = buffer.getInt();
+        if (location < 0 || location >= this.network.size() || generation < 0 || generation >= Recycling.Generation.values().length) {
+            return null;
+        }
+        return Recycling.Generation.values()[generation].newCentre(this.network, this.network.nameOf(location), yearsActive);
+    }
+
+    public synchronized int size() {
+        return this.index.size;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public String report() {
+        return String.format(Locale.ROOT, "Store: %d hits, %d misses, %d results%n", getHitCount(), getMissCount(), size());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.channel.force(false);
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private boolean readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = this.channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    // Fingerprint to file offset, in two parallel arrays with linear probing. An offset of -1 marks an empty slot.
+    private static final class OffsetIndex {
+        private long[] keys = new long[1024];
+        private long[] offsets = filled(1024);
+        private int size;
+
+        private static long[] filled(int capacity) {
+            long[] offsets = new long[capacity];
+            Arrays.fill(offsets, -1L);
+            return offsets;
+        }
+
+        private long get(long key) {
+            int mask = this.keys.length - 1;
+            for (int slot = (int) key & mask; this.offsets[slot] >= 0; slot = (slot + 1) & mask) {
+                if (this.keys[slot] == key) {
+                    return this.offsets[slot];
+                }
+            }
+            return -1L;
+        }
+
+        private void put(long key, long offset) {
+            // Kept at most half full, so probes stay short.
+            if ((this.size + 1) * 2 > this.keys.length) {
+                long[] oldKeys = this.keys;
+                long[] oldOffsets = this.offsets;
+                this.keys = new long[oldKeys.length * 2];
+                this.offsets = filled(oldKeys.length * 2);
+                this.size = 0;
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldOffsets[i] >= 0) {
+                        put(oldKeys[i], oldOffsets[i]);
+                    }
+                }
+            }
+
+            int mask = this.keys.length - 1;
+            int slot = (int) key & mask;
+            while (this.offsets[slot] >= 0) {
+                if (this.keys[slot] == key) {
+                    this.offsets[slot] = offset;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            this.keys[slot] = key;
+            this.offsets[slot] = offset;
+            this.size++;
+        }
+    }
+}
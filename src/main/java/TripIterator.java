@@ -0,0 +1,59 @@
+import models.Historic;
+import models.Recycling;
+import models.Transport;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Produces the loads needed to clear a historic site one at a time, so the trip manifest never has to be held in memory.
+// Loads are filled metallic first, then plastic/glass, then paper, topping each truck up to capacity.
+// The historic site is only read when the iterator is created; it is never modified.
+public final class TripIterator implements Iterator<Transport> {
+
+    private final Historic historic;
+    private final Recycling recyclingCentre;
+    private final double capacity;
+    private final double epsilon;
+
+    private double metallic;
+    private double plasticGlass;
+    private double paper;
+
+    TripIterator(Historic historic, Recycling recyclingCentre, double capacity, double epsilon) {
+        this.historic = historic;
+        this.recyclingCentre = recyclingCentre;
+        this.capacity = capacity;
+        this.epsilon = epsilon;
+        this.metallic = historic.getMetallic();
+        this.plasticGlass = historic.getPlasticGlass();
+        this.paper = historic.getPaper();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.metallic + this.plasticGlass + this.paper > this.epsilon;
+    }
+
+    @Override
+    public Transport next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("All waste has already been loaded");
+        }
+
+        Transport transport = new Transport(this.historic.getLocation(), this.recyclingCentre.getLocation());
+
+        double fillAmount = Math.min(this.metallic, this.capacity);
+        transport.setMetallicWaste(fillAmount);
+        this.metallic -= fillAmount;
+
+        fillAmount = Math.min(this.plasticGlass, this.capacity - transport.getTotalWaste());
+        transport.setPlasticGlassWaste(fillAmount);
+        this.plasticGlass -= fillAmount;
+
+        fillAmount = Math.min(this.paper, this.capacity - transport.getTotalWaste());
+        transport.setPaperWaste(fillAmount);
+        this.paper -= fillAmount;
+
+        return transport;
+    }
+}
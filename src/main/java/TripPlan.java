@@ -0,0 +1,44 @@
+// Closed-form summary of the transport journeys needed to clear a historic site.
+// Loads are filled metallic first, then plastic/glass, then paper, topping each truck up to capacity, so a
+// single load can carry more than one material. The per-material counts are the number of loads carrying
+// some of that material and may therefore add up to more than getTotalTrips().
+public final class TripPlan {
+
+    private final long metallicTrips;
+    private final long plasticGlassTrips;
+    private final long paperTrips;
+    private final long totalTrips;
+    private final double travelTimePerTrip;
+
+    public TripPlan(long metallicTrips, long plasticGlassTrips, long paperTrips, long totalTrips, double travelTimePerTrip) {
+        this.metallicTrips = metallicTrips;
+        this.plasticGlassTrips = plasticGlassTrips;
+        this.paperTrips = paperTrips;
+        this.totalTrips = totalTrips;
+        this.travelTimePerTrip = travelTimePerTrip;
+    }
+
+    public long getMetallicTrips() {
+        return this.metallicTrips;
+    }
+
+    public long getPlasticGlassTrips() {
+        return this.plasticGlassTrips;
+    }
+
+    public long getPaperTrips() {
+        return this.paperTrips;
+    }
+
+    public long getTotalTrips() {
+        return this.totalTrips;
+    }
+
+    public double getTravelTimePerTrip() {
+        return this.travelTimePerTrip;
+    }
+
+    public double getTravelDuration() {
+        return this.totalTrips * this.travelTimePerTrip;
+    }
+}
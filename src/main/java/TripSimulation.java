@@ -0,0 +1,152 @@
+import models.Historic;
+import models.LocationNetwork;
+import models.Recycling;
+
+// Discrete-event simulation of clearing a historic site, in which the centre starts processing each load as soon as it
+// arrives rather than waiting for every trip to finish. The makespan is the time the last load finishes processing.
+//
+// The truck leaves with load 0 at time 0. Each trip takes the travel time between the sites (the same per-trip time
+// calculateTravelDuration uses, which covers getting back for the next load), so load k arrives at (k + 1) * T, just
+// as the truck sets off with load k + 1. With a fleet of N trucks, all N set off at time 0 and truck i carries loads
+// i, i + N, i + 2N and so on, so load k arrives at (k / N + 1) * T (integer division).
+// Loads are filled as in planTrips (metallic, then plastic/glass, then paper), and the centre processes them one at a
+// time in the order they arrive, each taking its own waste over the centre's rates. With every load processed back to
+// back, the total processing time equals calculateProcessDuration.
+//
+// A simulation keeps its event calendar between runs, so reusing one instance allocates nothing per run.
+// Not thread-safe; use one instance per thread.
+public final class TripSimulation {
+
+    // Earlier types come first at equal times: a load that finishes frees the centre for one arriving at that moment.
+    static final int PROCESS_COMPLETE = 0;
+    static final int ARRIVE = 1;
+    static final int DEPART = 2;
+
+    private final EventCalendar calendar = new EventCalendar();
+
+    // Boundaries of each material in the fill order, and the centre's rates, for the current run.
+    private double metallicEnd;
+    private double plasticGlassEnd;
+    private double paperEnd;
+    private double metallicRate;
+    private double plasticGlassRate;
+    private double paperRate;
+
+    private long loads;
+    private long arrived;
+    private long nextToProcess;
+    private boolean processing;
+    private double lastArrivalTime;
+    private double makespan;
+    private long eventCount;
+
+    public double run(Historic historic, Recycling recyclingCentre) {
+        return run(historic, recyclingCentre, LocationNetwork.builtIn());
+    }
+
+    public double run(Historic historic, Recycling recyclingCentre, LocationNetwork network) {
+        return run(historic, recyclingCentre, network, 1);
+    }
+
+    public double run(Historic historic, Recycling recyclingCentre, LocationNetwork network, int trucks) {
+        if (trucks < 1) {
+            throw new IllegalArgumentException("A fleet needs at least one truck");
+        }
+
+        double travelTimePerTrip = network.travelTime(network.idOf(historic), network.idOf(recyclingCentre));
+
+        this.metallicEnd = historic.getMetallic();
+        this.plasticGlassEnd = this.metallicEnd + historic.getPlasticGlass();
+        this.paperEnd = this.plasticGlassEnd + historic.getPaper();
+        this.metallicRate = recyclingCentre.getMetallicRate();
+        this.plasticGlassRate = recyclingCentre.getPlasticGlassRate();
+        this.paperRate = recyclingCentre.getPaperRate();
+
+        this.loads = Utils.loadsCarrying(0.0, this.paperEnd);
+        this.arrived = 0;
+        this.nextToProcess = 0;
+        this.processing = false;
+        this.lastArrivalTime = 0.0;
+        this.makespan = 0.0;
+        this.eventCount = 0;
+        this.calendar.clear();
+
+        for (long load = 0; load < Math.min(trucks, this.loads); load++) {
+            this.calendar.schedule(0.0, DEPART, load);
+        }
+
+        while (!this.calendar.isEmpty()) {
+            double time = this.calendar.peekTime();
+            long event = this.calendar.poll();
+            long load = EventCalendar.loadOf(event);
+            this.eventCount++;
+
+            switch (EventCalendar.typeOf(event)) {
+                case DEPART:
+                    this.calendar.schedule(time + travelTimePerTrip, ARRIVE, load);
+                    if (load + trucks < this.loads) {
+                        this.calendar.schedule(time + travelTimePerTrip, DEPART, load + trucks);
+                    }
+                    break;
+                case ARRIVE:
+                    // Loads arrive in order (loads arriving together come out in load order), so the loads at the centre
+                    // are always nextToProcess up to arrived - 1.
+                    this.arrived++;
+                    this.lastArrivalTime = time;
+                    if (!this.processing) {
+                        startProcessing(time);
+                    }
+                    break;
+                case PROCESS_COMPLETE:
+                    this.processing = false;
+                    this.makespan = time;
+                    if (this.nextToProcess < this.arrived) {
+                        startProcessing(time);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown event type " + EventCalendar.typeOf(event));
+            }
+        }
+
+        this.makespan = Math.max(this.makespan, this.lastArrivalTime);
+        return this.makespan;
+    }
+
+    private void startProcessing(double time) {
+        long load = this.nextToProcess++;
+        this.processing = true;
+        this.calendar.schedule(time + processingTime(load), PROCESS_COMPLETE, load);
+    }
+
+    // Time to process the waste in load k, which occupies [k * capacity, (k + 1) * capacity) of the fill order.
+    double processingTime(long load) {
+        double start = load * Utils.TRANSPORT_CAPACITY;
+        double end = Math.min(start + Utils.TRANSPORT_CAPACITY, this.paperEnd);
+
+        return share(start, end, 0.0, this.metallicEnd, this.metallicRate)
+                + share(start, end, this.metallicEnd, this.plasticGlassEnd, this.plasticGlassRate)
+                + share(start, end, this.plasticGlassEnd, this.paperEnd, this.paperRate);
+    }
+
+    private static double share(double start, double end, double materialStart, double materialEnd, double rate) {
+        double amount = Math.min(end, materialEnd) - Math.max(start, materialStart);
+        return amount > 0 ? amount / rate : 0.0;
+    }
+
+    public double getMakespan() {
+        return this.makespan;
+    }
+
+    public double getLastArrivalTime() {
+        return this.lastArrivalTime;
+    }
+
+    public long getLoads() {
+        return this.loads;
+    }
+
+    public long getEventCount() {
+        return this.eventCount;
+    }
+}
@@ -1,65 +1,340 @@
 import models.Historic;
+import models.LocationNetwork;
 import models.Recycling;
 import models.Transport;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 // Sam @FourWallsSoft: I've made all methods on this public to make testing easier. Hope this helps!
 public final class Utils {
 
-    private static final double TRANSPORT_CAPACITY = 20d;
+    static final double TRANSPORT_CAPACITY = 20d;
+
+    // Centres further than this (in hours) from the historic site are not viable.
+    static final double MAX_VIABLE_TRAVEL_TIME = 3d;
+
+    private static final LocationNetwork BUILT_IN_NETWORK = LocationNetwork.builtIn();
+
+    // One reusable simulation per thread, so calculateMakespan allocates nothing per call.
+    private static final ThreadLocal<TripSimulation> SIMULATIONS = ThreadLocal.withInitial(TripSimulation::new);
+
+    // Tolerance used when splitting waste into loads, so rounding in the waste split doesn't add an extra trip.
+    private static final double LOAD_EPSILON = 1e-9;
+
+    public enum TravelMode {
+        ANALYTIC, // closed-form trip count, see planTrips
+        TRACE     // simulates every transport, one at a time
+    }
 
     // Sam @FourWallsSoft: Finds viable recycling centres.
+    // Note: this removes non-viable centres from candidateCentres. Use filterViableCentres to leave the list untouched.
     public static List<Recycling> findViableCentres(Historic historic, List<Recycling> candidateCentres) {
+        boolean metallicPresent = historic.getMetallic() > 0;
+        int origin = BUILT_IN_NETWORK.idOf(historic);
+
+        candidateCentres.removeIf(c -> !isViable(BUILT_IN_NETWORK, origin, metallicPresent, c));
+
+        // Sam @FourWallsSoft: By this point, remaining candidates should be viable.
+        return candidateCentres;
+    }
+
+    // Finds viable recycling centres without modifying candidateCentres, returning them in a new list.
+    public static List<Recycling> filterViableCentres(Historic historic, List<Recycling> candidateCentres) {
+        return filterViableCentres(historic, candidateCentres, BUILT_IN_NETWORK);
+    }
+
+    public static List<Recycling> filterViableCentres(Historic historic, List<Recycling> candidateCentres, LocationNetwork network) {
+        boolean metallicPresent = historic.getMetallic() > 0;
+        int origin = network.idOf(historic);
+
+        List<Recycling> viableCentres = new ArrayList<>();
+        for (Recycling candidateCentre : candidateCentres) {
+            if (isViable(network, origin, metallicPresent, candidateCentre)) {
+                viableCentres.add(candidateCentre);
+            }
+        }
+
+        return viableCentres;
+    }
+
+    // The viability rules for a single centre, on the built-in network.
+    static boolean isViable(Historic historic, Recycling candidateCentre) {
+        return isViable(historic, candidateCentre, BUILT_IN_NETWORK);
+    }
+
+    static boolean isViable(Historic historic, Recycling candidateCentre, LocationNetwork network) {
+        return isViable(network, network.idOf(historic), historic.getMetallic() > 0, candidateCentre);
+    }
 
+    private static boolean isViable(LocationNetwork network, int origin, boolean metallicPresent, Recycling candidateCentre) {
         // Sam @FourWallsSoft: First, check for metallic waste (if not present, only alpha and beta centres are viable)
-        if (historic.getMetallic() <= 0) {
-            candidateCentres.removeIf(c -> c.getGeneration().equals("Gamma"));
+        if (!metallicPresent && candidateCentre.getGenerationType() == Recycling.Generation.GAMMA) {
+            return false;
         }
 
-        // Sam @FourWallsSoft: Second, create candidateTransports to determine journey times.
-        // Sam @FourWallsSoft: Note: Having to create candidateTransports is feeling a bit clunky, but should work. TODO: Refactor at next opportunity.
-        List<Recycling> toRemove = new ArrayList<Recycling>();
+        // Second, check the journey time.
+        return network.travelTime(origin, network.idOf(candidateCentre)) <= MAX_VIABLE_TRAVEL_TIME;
+    }
+
+    // Runs the full scenario (viable, optimal, travel and process) without modifying the historic site, the centres or
+    // the configuration's list of centres, so the same configuration can be evaluated repeatedly or from several threads.
+    public static ScenarioResult evaluateScenario(ScenarioConfiguration scenarioConfiguration) {
+        return evaluateScenario(scenarioConfiguration.getHistoric(), scenarioConfiguration.getRecycling(),
+                scenarioConfiguration.getNetwork());
+    }
+
+    // Records ScenarioMetrics when they are enabled and JFR events (see ScenarioEvents) when a recording asks for them.
+    public static ScenarioResult evaluateScenario(Historic historic, List<Recycling> candidateCentres) {
+        return evaluateScenario(historic, candidateCentres, BUILT_IN_NETWORK);
+    }
 
-        for (Recycling candidateCentre: candidateCentres) {
-            Transport candidateTransport = new Transport(historic.getLocation(), candidateCentre.getLocation());
-            double travelTime = candidateTransport.getTravelTime();
-            if (travelTime > 3) {
-                toRemove.add(candidateCentre);
+    public static ScenarioResult evaluateScenario(Historic historic, List<Recycling> candidateCentres, LocationNetwork network) {
+        boolean recordMetrics = ScenarioMetrics.isEnabled();
+        ScenarioEvents.Evaluation evaluationEvent = new ScenarioEvents.Evaluation();
+        evaluationEvent.begin();
+        long start = recordMetrics ? System.nanoTime() : 0L;
+
+        try {
+            ScenarioEvents.ViabilityFilter viabilityEvent = new ScenarioEvents.ViabilityFilter();
+            viabilityEvent.begin();
+            List<Recycling> viableCentres = filterViableCentres(historic, candidateCentres, network);
+            if (viabilityEvent.shouldCommit()) {
+                viabilityEvent.historicLocation = historic.getLocationName();
+                viabilityEvent.metallicPresent = historic.getMetallic() > 0;
+                viabilityEvent.candidateCount = candidateCentres.size();
+                viabilityEvent.viableCount = viableCentres.size();
+                viabilityEvent.commit();
             }
-        }
+            long viableEnd = recordMetrics ? System.nanoTime() : 0L;
+
+            ScenarioEvents.OptimalSelection optimalEvent = new ScenarioEvents.OptimalSelection();
+            optimalEvent.begin();
+            Recycling optimalCentre = selectOptimalCentre(historic, viableCentres, network);
+            if (optimalEvent.shouldCommit()) {
+                optimalEvent.historicLocation = historic.getLocationName();
+                optimalEvent.viableCount = viableCentres.size();
+                optimalEvent.chosenLocation = optimalCentre.getLocationName();
+                optimalEvent.chosenGeneration = optimalCentre.getGeneration();
+                optimalEvent.chosenYearsActive = optimalCentre.getYearsActive();
+                optimalEvent.commit();
+            }
+            long optimalEnd = recordMetrics ? System.nanoTime() : 0L;
+
+            ScenarioEvents.TripPlanning tripEvent = new ScenarioEvents.TripPlanning();
+            tripEvent.begin();
+            double travelDuration = calculateTravelDuration(historic, optimalCentre, network);
+            boolean commitTrips = tripEvent.shouldCommit();
+            long trips = (recordMetrics || commitTrips) && travelDuration >= 0 ? planTrips(historic, optimalCentre, network).getTotalTrips() : 0L;
+            if (commitTrips) {
+                tripEvent.historicLocation = historic.getLocationName();
+                tripEvent.centreLocation = optimalCentre.getLocationName();
+                tripEvent.initialWaste = historic.getRemainingWaste();
+                tripEvent.trips = trips;
+                tripEvent.travelDuration = travelDuration;
+                tripEvent.commit();
+            }
+            long travelEnd = recordMetrics ? System.nanoTime() : 0L;
 
-        candidateCentres.removeAll(toRemove);
+            double processDuration = calculateProcessDuration(historic, optimalCentre);
 
-        // Sam @FourWallsSoft: By this point, remaining candidates should be viable.
-        return candidateCentres;
+            if (recordMetrics) {
+                long end = System.nanoTime();
+                ScenarioMetrics.recordStage(ScenarioMetrics.Stage.VIABLE, viableEnd - start);
+                ScenarioMetrics.recordStage(ScenarioMetrics.Stage.OPTIMAL, optimalEnd - viableEnd);
+                ScenarioMetrics.recordStage(ScenarioMetrics.Stage.TRAVEL, travelEnd - optimalEnd);
+                ScenarioMetrics.recordStage(ScenarioMetrics.Stage.PROCESS, end - travelEnd);
+                ScenarioMetrics.recordScenario(end - start, candidateCentres.size(), viableCentres.size(), trips);
+            }
+
+            if (evaluationEvent.shouldCommit()) {
+                evaluationEvent.historicLocation = historic.getLocationName();
+                evaluationEvent.initialWaste = historic.getRemainingWaste();
+                evaluationEvent.candidateCount = candidateCentres.size();
+                evaluationEvent.viableCount = viableCentres.size();
+                evaluationEvent.chosenLocation = optimalCentre.getLocationName();
+                evaluationEvent.chosenGeneration = optimalCentre.getGeneration();
+                evaluationEvent.totalDuration = travelDuration + processDuration;
+                evaluationEvent.commit();
+            }
+
+            return new ScenarioResult(viableCentres, optimalCentre, travelDuration, processDuration);
+        } catch (RuntimeException e) {
+            if (recordMetrics) {
+                ScenarioMetrics.recordFailure();
+            }
+            if (evaluationEvent.shouldCommit()) {
+                evaluationEvent.historicLocation = historic == null ? null : historic.getLocationName();
+                evaluationEvent.candidateCount = candidateCentres == null ? 0 : candidateCentres.size();
+                evaluationEvent.failed = true;
+                evaluationEvent.commit();
+            }
+            throw e;
+        }
     }
 
     // Sam @FourWallsSoft: Finds the optimal centre.
+    // Equivalent to findNearestCentres -> findLeastYearsActive -> findHighestGenerations, taking the first survivor.
     public static Recycling findOptimalCentre(Historic historic, List<Recycling> candidateCentres) {
-        List<Recycling> nearestCentres = findNearestCentres(historic, candidateCentres);
-        List<Recycling> youngestCentres = findLeastYearsActive(nearestCentres);
-        List<Recycling> highestGenerations = findHighestGenerations(youngestCentres);
+        return selectOptimalCentre(historic, candidateCentres);
+    }
+
+    // Single pass over the candidates keeping a running best on (travel time, years active, generation rank).
+    // Ties keep the earliest candidate, matching the order-preserving filters of the three-stage selection.
+    public static Recycling selectOptimalCentre(Historic historic, List<Recycling> candidateCentres) {
+        return selectOptimalCentre(historic, candidateCentres, BUILT_IN_NETWORK);
+    }
+
+    public static Recycling selectOptimalCentre(Historic historic, List<Recycling> candidateCentres, LocationNetwork network) {
+        if (candidateCentres.isEmpty()) {
+            throw new NoSuchElementException("No candidate centres to choose from");
+        }
+
+        int origin = network.idOf(historic);
+
+        Recycling best = null;
+        double bestTravelTime = Double.POSITIVE_INFINITY;
+        int bestYearsActive = Integer.MAX_VALUE;
+        int bestRank = Integer.MIN_VALUE;
+
+        for (Recycling candidateCentre : candidateCentres) {
+            double travelTime = network.travelTime(origin, network.idOf(candidateCentre));
+            int yearsActive = candidateCentre.getYearsActive();
+            int rank = generationRank(candidateCentre);
+
+            if (best == null
+                    || travelTime < bestTravelTime
+                    || (travelTime == bestTravelTime && (yearsActive < bestYearsActive
+                        || (yearsActive == bestYearsActive && rank > bestRank)))) {
+                best = candidateCentre;
+                bestTravelTime = travelTime;
+                bestYearsActive = yearsActive;
+                bestRank = rank;
+            }
+        }
+
+        // findHighestGenerations only keeps known generations, so a winning group of unknown generations leaves nothing.
+        if (bestRank < 0) {
+            throw new NoSuchElementException("No centre of a known generation among the nearest, least active centres");
+        }
+
+        return best;
+    }
+
+    // Whether candidate beats incumbent by the same criteria as selectOptimalCentre: nearer, then fewer years active,
+    // then a higher generation. A full tie keeps the incumbent, the centre that came earlier in the list.
+    static boolean isBetterCentre(Historic historic, Recycling candidate, Recycling incumbent) {
+        return isBetterCentre(historic, candidate, incumbent, BUILT_IN_NETWORK);
+    }
+
+    static boolean isBetterCentre(Historic historic, Recycling candidate, Recycling incumbent, LocationNetwork network) {
+        int origin = network.idOf(historic);
+        double candidateTravelTime = network.travelTime(origin, network.idOf(candidate));
+        double incumbentTravelTime = network.travelTime(origin, network.idOf(incumbent));
+        if (candidateTravelTime != incumbentTravelTime) {
+            return candidateTravelTime < incumbentTravelTime;
+        }
+        if (candidate.getYearsActive() != incumbent.getYearsActive()) {
+            return candidate.getYearsActive() < incumbent.getYearsActive();
+        }
+        return generationRank(candidate) > generationRank(incumbent);
+    }
+
+    // Ranks the candidates by the same criteria as findOptimalCentre and returns the best k, best first.
+    // Uses a heap bounded at k entries, so this is O(n log k) rather than repeatedly removing the winner.
+    public static List<RankedCentre> findTopCentres(Historic historic, List<Recycling> candidateCentres, int k) {
+        return findTopCentres(historic, candidateCentres, k, BUILT_IN_NETWORK);
+    }
+
+    public static List<RankedCentre> findTopCentres(Historic historic, List<Recycling> candidateCentres, int k, LocationNetwork network) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        int origin = network.idOf(historic);
+
+        // The heap's head is the worst of the centres kept so far, so it is the one to drop when a better centre arrives.
+        PriorityQueue<CandidateKey> best = new PriorityQueue<>(CANDIDATE_ORDER.reversed());
+
+        int index = 0;
+        for (Recycling candidateCentre : candidateCentres) {
+            CandidateKey key = new CandidateKey(
+                    candidateCentre,
+                    index++,
+                    network.travelTime(origin, network.idOf(candidateCentre)),
+                    candidateCentre.getYearsActive(),
+                    generationRank(candidateCentre));
+
+            if (best.size() < k) {
+                best.add(key);
+            } else if (CANDIDATE_ORDER.compare(key, best.peek()) < 0) {
+                best.poll();
+                best.add(key);
+            }
+        }
+
+        List<CandidateKey> ordered = new ArrayList<>(best);
+        ordered.sort(CANDIDATE_ORDER);
+
+        List<RankedCentre> ranked = new ArrayList<>(ordered.size());
+        for (CandidateKey key : ordered) {
+            ranked.add(new RankedCentre(
+                    ranked.size() + 1,
+                    key.centre,
+                    calculateTravelDuration(historic, key.centre, network),
+                    calculateProcessDuration(historic, key.centre)));
+        }
+
+        return ranked;
+    }
+
+    // Nearest first, then least years active, then highest generation, then earliest in the candidate list.
+    private static final Comparator<CandidateKey> CANDIDATE_ORDER = Comparator
+            .comparingDouble((CandidateKey c) -> c.travelTime)
+            .thenComparingInt(c -> c.yearsActive)
+            .thenComparingInt(c -> -c.generationRank)
+            .thenComparingInt(c -> c.index);
+
+    private static final class CandidateKey {
+        private final Recycling centre;
+        private final int index;
+        private final double travelTime;
+        private final int yearsActive;
+        private final int generationRank;
+
+        private CandidateKey(Recycling centre, int index, double travelTime, int yearsActive, int generationRank) {
+            this.centre = centre;
+            this.index = index;
+            this.travelTime = travelTime;
+            this.yearsActive = yearsActive;
+            this.generationRank = generationRank;
+        }
+    }
+
+    // Unknown generations rank below Alpha.
+    private static int generationRank(Recycling centre) {
+        return generationRank(centre.getGenerationType());
+    }
 
-        return highestGenerations.getFirst();
+    private static int generationRank(Recycling.Generation generation) {
+        return generation == null ? -1 : generation.getRank();
     }
 
     public static List<Recycling> findNearestCentres(Historic historic, List<Recycling> candidateCentres) {
         // Sam @FourWallsSoft: Create a list of travel times
-        List<Double> travelTimes = candidateCentres.stream().map(c -> {
-            Transport candidateTransport = new Transport(historic.getLocation(), c.getLocation());
-            return candidateTransport.getTravelTime();
-        }).toList();
+        List<Double> travelTimes = candidateCentres.stream()
+                .map(c -> BUILT_IN_NETWORK.travelTime(BUILT_IN_NETWORK.idOf(historic), BUILT_IN_NETWORK.idOf(c)))
+                .toList();
 
         // Sam @FourWallsSoft: Find the minimum travel time
         double minTravelTime = Collections.min(travelTimes);
 
         // Sam @FourWallsSoft: Filter the candidate centers with the minimum travel time
-        return candidateCentres.stream().filter(c -> {
-            Transport candidateTransport = new Transport(historic.getLocation(), c.getLocation());
-            return candidateTransport.getTravelTime() == minTravelTime;
-        }).toList();
+        return candidateCentres.stream()
+                .filter(c -> BUILT_IN_NETWORK.travelTime(BUILT_IN_NETWORK.idOf(historic), BUILT_IN_NETWORK.idOf(c)) == minTravelTime)
+                .toList();
     }
 
     public static List<Recycling> findHighestGenerations(List<Recycling> candidateCentres) {
@@ -67,28 +342,24 @@ public final class Utils {
             return Collections.emptyList();
         }
 
-        List<String> generations = Arrays.asList("Alpha", "Beta", "Gamma");
-        String highestGeneration = "Alpha"; // Start with the lowest generation
+        int highestRank = Recycling.Generation.ALPHA.getRank(); // Start with the lowest generation
 
         // Find the highest generation
         for (Recycling centre : candidateCentres) {
-            if (compareGenerations(centre.getGeneration(), highestGeneration) > 0) {
-                highestGeneration = centre.getGeneration();
-            }
+            highestRank = Math.max(highestRank, generationRank(centre));
         }
 
-        final String finalHighestGeneration = highestGeneration;
+        final int finalHighestRank = highestRank;
 
         // Collect all centres with the highest generation
         return candidateCentres.stream()
-                .filter(centre -> centre.getGeneration().equalsIgnoreCase(finalHighestGeneration))
+                .filter(centre -> generationRank(centre) == finalHighestRank)
                 .collect(Collectors.toList());
     }
 
     // Sam @FourWallsSoft: Should return value greater than 0, when gen1 is greater than gen2
     public static int compareGenerations(String gen1, String gen2) {
-        List<String> generations = Arrays.asList("Alpha", "Beta", "Gamma");
-        return Integer.compare(generations.indexOf(gen1), generations.indexOf(gen2));
+        return Integer.compare(generationRank(Recycling.Generation.fromName(gen1)), generationRank(Recycling.Generation.fromName(gen2)));
     }
 
     public static List<Recycling> findLeastYearsActive(List<Recycling> candidateCentres) {
@@ -109,38 +380,169 @@ public final class Utils {
     }
 
     public static double calculateTravelDuration(Historic historic, Recycling recyclingCentre) {
+        return calculateTravelDuration(historic, recyclingCentre, TravelMode.ANALYTIC);
+    }
+
+    public static double calculateTravelDuration(Historic historic, Recycling recyclingCentre, TravelMode mode) {
         // Sam @FourWallsSoft: Handle invalid input.
         if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
             return -1.0;
         }
 
-        // Sam @FourWallsSoft: Model/simulate transport journeys.
-        List<Transport> transportsUsed = new ArrayList<>();
+        if (mode == TravelMode.TRACE) {
+            return simulateTravelDuration(historic, recyclingCentre);
+        }
+
+        return planTrips(historic, recyclingCentre).getTravelDuration();
+    }
+
+    // Closed-form travel duration using the given network's travel times.
+    public static double calculateTravelDuration(Historic historic, Recycling recyclingCentre, LocationNetwork network) {
+        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+            return -1.0;
+        }
+
+        return planTrips(historic, recyclingCentre, network).getTravelDuration();
+    }
+
+    // Time until the last load has been processed when the centre starts on each load as soon as it arrives, rather
+    // than travel and process durations back to back. See TripSimulation.
+    public static double calculateMakespan(Historic historic, Recycling recyclingCentre) {
+        return SIMULATIONS.get().run(historic, recyclingCentre);
+    }
+
+    // Travel duration with a fleet of trucks running at once. Each truck makes at most ceil(trips / trucks) trips, and
+    // the fleet is done when the busiest truck is.
+    // Like calculateTravelDuration, the fleet methods return -1 for a site with less than one full load.
+    public static double calculateFleetTravelDuration(Historic historic, Recycling recyclingCentre, int trucks) {
+        return calculateFleetTravelDuration(historic, recyclingCentre, trucks, BUILT_IN_NETWORK);
+    }
+
+    public static double calculateFleetTravelDuration(Historic historic, Recycling recyclingCentre, int trucks, LocationNetwork network) {
+        if (trucks < 1) {
+            throw new IllegalArgumentException("A fleet needs at least one truck");
+        }
+        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+            return -1.0;
+        }
+
+        TripPlan plan = planTrips(historic, recyclingCentre, network);
+        long rounds = (plan.getTotalTrips() + trucks - 1) / trucks;
+        return rounds * plan.getTravelTimePerTrip();
+    }
+
+    // Makespan with a fleet of trucks running at once, including processing at the centre. See TripSimulation.
+    public static double calculateFleetMakespan(Historic historic, Recycling recyclingCentre, int trucks) {
+        return calculateFleetMakespan(historic, recyclingCentre, trucks, BUILT_IN_NETWORK);
+    }
+
+    public static double calculateFleetMakespan(Historic historic, Recycling recyclingCentre, int trucks, LocationNetwork network) {
+        if (trucks < 1) {
+            throw new IllegalArgumentException("A fleet needs at least one truck");
+        }
+        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+            return -1.0;
+        }
+
+        return SIMULATIONS.get().run(historic, recyclingCentre, network, trucks);
+    }
+
+    // Fewest trucks whose trips are all done within the deadline, straight from the closed form: each truck can make
+    // floor(deadline / T) trips in time. Returns -1 if not even one trip fits.
+    public static int findMinimumFleetSizeForTravel(Historic historic, Recycling recyclingCentre, double deadlineHours) {
+        return findMinimumFleetSizeForTravel(historic, recyclingCentre, deadlineHours, BUILT_IN_NETWORK);
+    }
+
+    public static int findMinimumFleetSizeForTravel(Historic historic, Recycling recyclingCentre, double deadlineHours,
+                                                    LocationNetwork network) {
+        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+            return -1;
+        }
+
+        TripPlan plan = planTrips(historic, recyclingCentre, network);
+        if (plan.getTotalTrips() == 0 || plan.getTravelTimePerTrip() <= 0) {
+            return 1;
+        }
+
+        long tripsPerTruck = (long) Math.floor(deadlineHours / plan.getTravelTimePerTrip() + LOAD_EPSILON);
+        if (tripsPerTruck < 1) {
+            return -1;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (plan.getTotalTrips() + tripsPerTruck - 1) / tripsPerTruck);
+    }
+
+    // Fewest trucks for which the whole job, including processing, is done within the deadline. More trucks never
+    // make a load arrive later, so the makespan only falls as the fleet grows and a binary search over 1 to one truck
+    // per load needs O(log trips) simulations. Returns -1 if even a truck per load can't meet the deadline.
+    public static int findMinimumFleetSize(Historic historic, Recycling recyclingCentre, double deadlineHours) {
+        return findMinimumFleetSize(historic, recyclingCentre, deadlineHours, BUILT_IN_NETWORK);
+    }
 
-        while (historic.getRemainingWaste() > 0) {
-            Transport transport = new Transport(historic.getLocation(), recyclingCentre.getLocation());
+    public static int findMinimumFleetSize(Historic historic, Recycling recyclingCentre, double deadlineHours,
+                                           LocationNetwork network) {
+        if (historic.getRemainingWaste() < TRANSPORT_CAPACITY) {
+            return -1;
+        }
 
-            while (transport.getTotalWaste() < TRANSPORT_CAPACITY) {
-                if (historic.getMetallic() > 0) {
-                    double fillAmount = Math.min(historic.getMetallic(), TRANSPORT_CAPACITY);
-                    transport.setMetallicWaste(fillAmount);
-                } else if (historic.getPlasticGlass() > 0) {
-                    double fillAmount = Math.min(historic.getPlasticGlass(), TRANSPORT_CAPACITY);
-                    transport.setPlasticGlassWaste(fillAmount);
-                } else if (historic.getPaper() > 0){
-                    double fillAmount = Math.min(historic.getPaper(), TRANSPORT_CAPACITY);
-                    transport.setPaperWaste(fillAmount);
-                }
+        TripSimulation simulation = SIMULATIONS.get();
+
+        int high = (int) Math.max(1, Math.min(Integer.MAX_VALUE, planTrips(historic, recyclingCentre, network).getTotalTrips()));
+        if (simulation.run(historic, recyclingCentre, network, high) > deadlineHours) {
+            return -1;
+        }
+
+        int low = 1;
+        while (low < high) {
+            int middle = low + (high - low) / 2;
+            if (simulation.run(historic, recyclingCentre, network, middle) <= deadlineHours) {
+                high = middle;
+            } else {
+                low = middle + 1;
             }
+        }
+        return low;
+    }
+
+    // Works out the trips needed to clear the historic site without simulating individual transports.
+    public static TripPlan planTrips(Historic historic, Recycling recyclingCentre) {
+        return planTrips(historic, recyclingCentre, BUILT_IN_NETWORK);
+    }
 
-            transportsUsed.add(transport);
+    public static TripPlan planTrips(Historic historic, Recycling recyclingCentre, LocationNetwork network) {
+        double travelTimePerTrip = network.travelTime(network.idOf(historic), network.idOf(recyclingCentre));
 
-            historic.setRemainingWaste(historic.getRemainingWaste() - transport.getTotalWaste());
+        // Loads are filled in the same order as the simulation: metallic, then plastic/glass, then paper.
+        double metallicEnd = historic.getMetallic();
+        double plasticGlassEnd = metallicEnd + historic.getPlasticGlass();
+        double paperEnd = plasticGlassEnd + historic.getPaper();
+
+        return new TripPlan(
+                loadsCarrying(0.0, metallicEnd),
+                loadsCarrying(metallicEnd, plasticGlassEnd),
+                loadsCarrying(plasticGlassEnd, paperEnd),
+                loadsCarrying(0.0, paperEnd),
+                travelTimePerTrip);
+    }
+
+    // Number of loads that carry some of the waste occupying [start, end) of the overall fill order.
+    static long loadsCarrying(double start, double end) {
+        if (end - start <= LOAD_EPSILON) {
+            return 0;
         }
 
-        // Sam @FourWallsSoft: Calculate travel time.
+        long lastLoad = (long) Math.ceil(end / TRANSPORT_CAPACITY - LOAD_EPSILON);
+        long firstLoad = (long) Math.floor(start / TRANSPORT_CAPACITY + LOAD_EPSILON);
+        return lastLoad - firstLoad;
+    }
+
+    // Sam @FourWallsSoft: Model/simulate transport journeys.
+    // Kept as the TRACE mode so it can be checked against planTrips.
+    private static double simulateTravelDuration(Historic historic, Recycling recyclingCentre) {
         double travelTime = 0.0;
-        for (Transport transport : transportsUsed) {
+
+        Iterator<Transport> trips = tripIterator(historic, recyclingCentre);
+        while (trips.hasNext()) {
+            Transport transport = trips.next();
             travelTime += transport.getTravelTime();
         }
 
@@ -148,12 +550,34 @@ public final class Utils {
         return travelTime;
     }
 
+    // Lazily produces each load needed to clear the historic site, in the order the trucks would carry them.
+    public static Iterator<Transport> tripIterator(Historic historic, Recycling recyclingCentre) {
+        return new TripIterator(historic, recyclingCentre, TRANSPORT_CAPACITY, LOAD_EPSILON);
+    }
+
+    public static Stream<Transport> streamTrips(Historic historic, Recycling recyclingCentre) {
+        long tripCount = planTrips(historic, recyclingCentre).getTotalTrips();
+        Spliterator<Transport> trips = Spliterators.spliterator(
+                tripIterator(historic, recyclingCentre), tripCount, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(trips, false);
+    }
+
     public static double calculateProcessDuration(Historic historic, Recycling recycling) {
-        double timeToProcessPlastic = historic.getPlasticGlass() / recycling.getRates().get(0);
-        double timeToProcessPaper = historic.getPaper() / recycling.getRates().get(1);
-        double timeToProcessMetallic = historic.getMetallic() / recycling.getRates().get(2);
+        double timeToProcessPlastic = historic.getPlasticGlass() / recycling.getPlasticGlassRate();
+        double timeToProcessPaper = historic.getPaper() / recycling.getPaperRate();
+        double timeToProcessMetallic = historic.getMetallic() / recycling.getMetallicRate();
 
         return timeToProcessPlastic + timeToProcessPaper + timeToProcessMetallic;
     }
-}
 
+    // Process duration for any centre of the given generation, read straight from the generation's rate table.
+    public static double calculateProcessDuration(Historic historic, Recycling.Generation generation) {
+        return calculateProcessDuration(historic.getPlasticGlass(), historic.getPaper(), historic.getMetallic(), generation);
+    }
+
+    public static double calculateProcessDuration(double plasticGlass, double paper, double metallic, Recycling.Generation generation) {
+        return plasticGlass / generation.getPlasticGlassRate()
+                + paper / generation.getPaperRate()
+                + metallic / generation.getMetallicRate();
+    }
+}
@@ -5,20 +5,21 @@ import java.util.List;
 
 public class Alpha extends Recycling{
 
-    private final List<Double> rates;
-
     public Alpha(Location location, int yearsActive) {
-        super(location, yearsActive);
-        this.rates = List.of(1.0, 1.0, 1.0);
+        super(location, yearsActive, Generation.ALPHA);
+    }
+
+    public Alpha(LocationNetwork network, String location, int yearsActive) {
+        super(network, location, yearsActive, Generation.ALPHA);
     }
 
     @Override
     public String getGeneration() {
-        return "Alpha";
+        return Generation.ALPHA.getDisplayName();
     }
 
     @Override
     public List<Double> getRates() {
-        return this.rates;
+        return Generation.ALPHA.getRates();
     }
 }
@@ -4,20 +4,21 @@ import java.util.List;
 
 public class Beta extends Recycling{
 
-    private final List<Double> rates;
-
     public Beta(Location location, int yearsActive) {
-        super(location, yearsActive);
-        this.rates = List.of(1.5, 1.5, 1.5);
+        super(location, yearsActive, Generation.BETA);
+    }
+
+    public Beta(LocationNetwork network, String location, int yearsActive) {
+        super(network, location, yearsActive, Generation.BETA);
     }
 
     @Override
     public String getGeneration() {
-        return "Beta";
+        return Generation.BETA.getDisplayName();
     }
 
     @Override
     public List<Double> getRates() {
-        return this.rates;
+        return Generation.BETA.getRates();
     }
 }
@@ -0,0 +1,97 @@
+package models;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+// All-pairs shortest travel times, worked out in place over a flat row-major matrix.
+// The matrix is split into square blocks small enough to stay in cache. For each diagonal block k, the diagonal block
+// is finished first, then every block in row k and column k (which only depend on it), then every other block (which
+// only depend on row k and column k). Blocks within the last two steps don't depend on each other, so they run in
+// parallel on the pool.
+final class FloydWarshall {
+
+    // 64 x 64 doubles is 32 KB, so the three blocks an update touches fit in L2.
+    static final int BLOCK_SIZE = 64;
+
+    private FloydWarshall() {
+    }
+
+    static void run(double[] times, int size, ForkJoinPool pool) {
+        int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        for (int k = 0; k < blocks; k++) {
+            int kb = k;
+            updateBlock(times, size, kb, kb, kb);
+
+            // Row k and column k, other than the diagonal block itself.
+            pool.invoke(new BlockRange(0, 2 * (blocks - 1), task -> {
+                int other = task / 2 < kb ? task / 2 : task / 2 + 1;
+                if (task % 2 == 0) {
+                    updateBlock(times, size, kb, other, kb);
+                } else {
+                    updateBlock(times, size, other, kb, kb);
+                }
+            }));
+
+            // Everything else.
+            int rest = blocks - 1;
+            pool.invoke(new BlockRange(0, rest * rest, task -> {
+                int i = task / rest < kb ? task / rest : task / rest + 1;
+                int j = task % rest < kb ? task % rest : task % rest + 1;
+                updateBlock(times, size, i, j, kb);
+            }));
+        }
+    }
+
+    // Relaxes every path in block (iBlock, jBlock) through the locations in block kBlock.
+    private static void updateBlock(double[] times, int size, int iBlock, int jBlock, int kBlock) {
+        int iEnd = Math.min(size, (iBlock + 1) * BLOCK_SIZE);
+        int jStart = jBlock * BLOCK_SIZE;
+        int jEnd = Math.min(size, jStart + BLOCK_SIZE);
+        int kEnd = Math.min(size, (kBlock + 1) * BLOCK_SIZE);
+
+        for (int k = kBlock * BLOCK_SIZE; k < kEnd; k++) {
+            int kRow = k * size;
+            for (int i = iBlock * BLOCK_SIZE; i < iEnd; i++) {
+                int iRow = i * size;
+                double viaK = times[iRow + k];
+                if (viaK == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+
+                for (int j = jStart; j < jEnd; j++) {
+                    double candidate = viaK + times[kRow + j];
+                    if (candidate < times[iRow + j]) {
+                        times[iRow + j] = candidate;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class BlockRange extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        private BlockRange(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= 1) {
+                if (this.from < this.to) {
+                    this.body.accept(this.from);
+                }
+                return;
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new BlockRange(this.from, middle, this.body), new BlockRange(middle, this.to, this.body));
+        }
+    }
+}
@@ -4,20 +4,21 @@ import java.util.List;
 
 public class Gamma extends Recycling {
 
-    private final List<Double> rates;
-
     public Gamma(Location location, int yearsActive) {
-        super(location, yearsActive);
-        this.rates = List.of(1.5, 2.0, 3.0); // Sam @FourWallsSoft: plastic, metallic, paper
+        super(location, yearsActive, Generation.GAMMA);
+    }
+
+    public Gamma(LocationNetwork network, String location, int yearsActive) {
+        super(network, location, yearsActive, Generation.GAMMA);
     }
 
     @Override
     public String getGeneration() {
-        return "Gamma";
+        return Generation.GAMMA.getDisplayName();
     }
 
     @Override
     public List<Double> getRates() {
-        return this.rates;
+        return Generation.GAMMA.getRates();
     }
 }
@@ -15,6 +15,18 @@ public class Historic extends Site {
         this.remainingWaste = initialWaste;
     }
 
+    // A site at a location of a loaded network, e.g. one read by LocationNetwork.load.
+    public Historic(LocationNetwork network, String location, double initialWaste) {
+        super(network, location);
+        estimateWasteSplit(initialWaste);
+        this.remainingWaste = initialWaste;
+    }
+
+    // Sites with more waste than this are assumed to hold some metallic waste.
+    public static double getMetallicThreshold() {
+        return METALLIC_THRESH;
+    }
+
     public double getRemainingWaste() {
         return remainingWaste;
     }
@@ -23,32 +23,17 @@ public enum Location {
     public abstract double travelTime(Location to);
 
     static double travelTime(Location from, Location to) {
-        if(ab(from,to))
-        {
-            return 2.0;
-        } else if(ac(from,to))
-        {
-            return 4.0;
-        } else if(bc(from,to))
-        {
-            return 3.0;
-        }
-        return 0.0; //same location
-    }
-
-    static boolean ab(Location from, Location to)
-    {
-        return (from == A && to == B) || (from == B && to == A);
+        return TravelTimeMatrix.LOCATION.travelTime(from, to);
     }
 
-    static  boolean ac(Location from, Location to)
-    {
-        return (from == A && to == C) || (from == C && to == A);
-    }
-
-    static boolean bc(Location from, Location to)
-    {
-        return (from == B && to == C) || (from == C && to == B);
+    // The location with that name, or null if there isn't one.
+    static Location fromName(String name) {
+        for (Location location : values()) {
+            if (location.name().equals(name)) {
+                return location;
+            }
+        }
+        return null;
     }
 
 }
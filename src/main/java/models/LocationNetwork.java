@@ -0,0 +1,190 @@
+package models;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A set of named locations with dense integer ids (0 to size() - 1) and the travel times between them.
+// The built-in network is the original A, B and C with the transport journey times, so ids match Location ordinals.
+// Sites and centres at other locations are created against a network, e.g. new Historic(network, "D", 2000).
+public final class LocationNetwork {
+
+    private static final LocationNetwork BUILT_IN = new LocationNetwork(
+            List.of(Location.A.name(), Location.B.name(), Location.C.name()), TravelTimeMatrix.TRANSPORT);
+
+    private final String[] names;
+    private final Map<String, Integer> ids;
+    private final int[] idsByLocation;
+    private final TravelTimes travelTimes;
+
+    public LocationNetwork(List<String> names, TravelTimes travelTimes) {
+        if (names.size() != travelTimes.size()) {
+            throw new IllegalArgumentException("Expected travel times for " + names.size() + " locations but got " + travelTimes.size());
+        }
+
+        this.names = names.toArray(new String[0]);
+        this.ids = new HashMap<>();
+        for (int id = 0; id < this.names.length; id++) {
+            if (this.ids.put(this.names[id], id) != null) {
+                throw new IllegalArgumentException("Duplicate location '" + this.names[id] + "'");
+            }
+        }
+
+        // Resolve the built-in Location constants once, so lookups for them don't go through the name map.
+        this.idsByLocation = new int[Location.values().length];
+        for (Location location : Location.values()) {
+            this.idsByLocation[location.ordinal()] = this.ids.getOrDefault(location.name(), -1);
+        }
+
+        this.travelTimes = travelTimes;
+    }
+
+    public static LocationNetwork builtIn() {
+        return BUILT_IN;
+    }
+
+    // Opens either a travel-time matrix written by MappedTravelTimeMatrix.write, whose locations are named by their ids
+    // ("0", "1", ...) and whose times are only read in as they are looked up, or a CSV matrix as read by load.
+    public static LocationNetwork open(Path file) throws IOException {
+        if (!MappedTravelTimeMatrix.isMatrixFile(file)) {
+            return load(file);
+        }
+
+        MappedTravelTimeMatrix times = MappedTravelTimeMatrix.open(file);
+        List<String> names = new ArrayList<>(times.size());
+        for (int id = 0; id < times.size(); id++) {
+            names.add(Integer.toString(id));
+        }
+        return new LocationNetwork(names, times);
+    }
+
+    // Reads a travel-time matrix in CSV form. The first line names the destinations, and every following line is an
+    // origin's name followed by its travel time (in hours) to each destination, in the same order:
+    //
+    //   ,A,B,C
+    //   A,1,2,4
+    //   B,2,3,3
+    //   C,4,1,1
+    //
+    // Blank lines and lines starting with '#' are ignored.
+    public static LocationNetwork load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    public static LocationNetwork read(BufferedReader reader) throws IOException {
+        List<String> names = null;
+        double[] times = null;
+        int rows = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.trim().startsWith("#")) {
+                continue;
+            }
+
+            String[] cells = line.split(",", -1);
+            if (names == null) {
+                names = new ArrayList<>();
+                for (int i = 1; i < cells.length; i++) {
+                    names.add(cells[i].trim());
+                }
+                times = new double[names.size() * names.size()];
+                continue;
+            }
+
+            if (rows == names.size()) {
+                throw new IllegalArgumentException("More rows than locations in the travel-time matrix");
+            }
+            if (!cells[0].trim().equals(names.get(rows))) {
+                throw new IllegalArgumentException("Expected row '" + names.get(rows) + "' but found '" + cells[0].trim() + "'");
+            }
+            if (cells.length != names.size() + 1) {
+                throw new IllegalArgumentException("Row '" + names.get(rows) + "' should have " + names.size() + " travel times");
+            }
+
+            for (int to = 0; to < names.size(); to++) {
+                double time = Double.parseDouble(cells[to + 1].trim());
+                if (!(time >= 0)) {
+                    throw new IllegalArgumentException("Travel times must not be negative");
+                }
+                times[rows * names.size() + to] = time;
+            }
+            rows++;
+        }
+
+        if (names == null || rows != names.size()) {
+            throw new IllegalArgumentException("Travel-time matrix should have one row per location");
+        }
+
+        return new LocationNetwork(names, new TravelTimeMatrix(names.size(), times));
+    }
+
+    public int size() {
+        return this.names.length;
+    }
+
+    public String nameOf(int id) {
+        return this.names[id];
+    }
+
+    public int idOf(String name) {
+        Integer id = this.ids.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown location '" + name + "'");
+        }
+        return id;
+    }
+
+    public int idOf(Location location) {
+        int id = this.idsByLocation[location.ordinal()];
+        if (id < 0) {
+            throw new IllegalArgumentException("Location " + location + " is not part of this network");
+        }
+        return id;
+    }
+
+    // The id of the site's location. A site created on this network already knows its id, one created from a Location
+    // is looked up by that Location, and one from another network by name.
+    public int idOf(Historic historic) {
+        return idOf((Site) historic);
+    }
+
+    public int idOf(Recycling centre) {
+        return idOf((Site) centre);
+    }
+
+    private int idOf(Site site) {
+        if (site.getNetwork() == this) {
+            return site.getLocationId();
+        }
+        if (site.getNetwork() == null) {
+            return idOf(site.getLocation());
+        }
+        return idOf(site.getLocationName());
+    }
+
+    public List<String> getNames() {
+        return Arrays.asList(this.names.clone());
+    }
+
+    public TravelTimes getTravelTimes() {
+        return this.travelTimes;
+    }
+
+    public double travelTime(int from, int to) {
+        return this.travelTimes.travelTime(from, to);
+    }
+
+    public double travelTime(Location from, Location to) {
+        return this.travelTimes.travelTime(idOf(from), idOf(to));
+    }
+}
@@ -0,0 +1,140 @@
+package models;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// Travel times read straight from a memory-mapped file, for networks too large to hold on the heap.
+// The file is a 16-byte header (magic, version, size, reserved) followed by the size x size travel times as row-major
+// little-endian floats. Only the pages that are actually looked up get read in, so opening the file is cheap and a
+// single lookup costs at most one page fault.
+// A mapping can't be larger than 2 GB, so bigger files are mapped in several segments, each holding whole rows.
+// LocationNetwork.open reads these files as well as CSV matrices, naming the locations by their ids.
+public final class MappedTravelTimeMatrix implements TravelTimes {
+
+    private static final int MAGIC = 0x4C4C5446; // "LLTF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final int size;
+    private final int rowsPerSegment;
+    private final MappedByteBuffer[] segments;
+
+    private MappedTravelTimeMatrix(int size, int rowsPerSegment, MappedByteBuffer[] segments) {
+        this.size = size;
+        this.rowsPerSegment = rowsPerSegment;
+        this.segments = segments;
+    }
+
+    public static MappedTravelTimeMatrix open(Path file) throws IOException {
+        return open(file, Integer.MAX_VALUE);
+    }
+
+    static MappedTravelTimeMatrix open(Path file, int maxSegmentBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the whole header is in
+            }
+            header.flip();
+
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a travel-time matrix file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported travel-time matrix version " + version);
+            }
+            int size = header.getInt();
+            long rowBytes = (long) size * Float.BYTES;
+            if (size < 0 || channel.size() != HEADER_BYTES + rowBytes * size) {
+                throw new IllegalArgumentException("Travel-time matrix file has the wrong length for " + size + " locations");
+            }
+            if (rowBytes > maxSegmentBytes) {
+                throw new IllegalArgumentException("A row of " + size + " travel times does not fit in one mapping");
+            }
+
+            int rowsPerSegment = size == 0 ? 1 : (int) Math.min(size, maxSegmentBytes / rowBytes);
+            int segmentCount = size == 0 ? 0 : (size + rowsPerSegment - 1) / rowsPerSegment;
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                int rows = Math.min(rowsPerSegment, size - s * rowsPerSegment);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + s * rowsPerSegment * rowBytes, rows * rowBytes);
+                segments[s].order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            // The mappings stay valid after the channel is closed.
+            return new MappedTravelTimeMatrix(size, rowsPerSegment, segments);
+        }
+    }
+
+    // Whether the file starts like a travel-time matrix file, rather than e.g. a CSV matrix.
+    public static boolean isMatrixFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until the whole magic number is in
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    // Writes times in the format open reads, one row at a time, so the full matrix never has to be on the heap.
+    // Times are stored as floats, which hold hours to well under a second for any realistic journey.
+    public static void write(Path file, TravelTimes times) throws IOException {
+        int size = times.size();
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(0);
+
+                for (int from = 0; from < size; from++) {
+                    for (int to = 0; to < size; to++) {
+                        if (buffer.remaining() < Float.BYTES) {
+                            drain(channel, buffer);
+                        }
+                        buffer.putFloat((float) times.travelTime(from, to));
+                    }
+                }
+                drain(channel, buffer);
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public double travelTime(int from, int to) {
+        if (from < 0 || from >= this.size || to < 0 || to >= this.size) {
+            throw new IndexOutOfBoundsException("No travel time from " + from + " to " + to + " in a network of " + this.size);
+        }
+
+        int row = from % this.rowsPerSegment;
+        return this.segments[from / this.rowsPerSegment].getFloat((row * this.size + to) * Float.BYTES);
+    }
+}
@@ -3,11 +3,38 @@ package models;
 import java.util.List;
 
 public abstract class Recycling extends Site {
+    // Positions of each material in getRates().
+    public static final int PLASTIC_GLASS_RATE = 0;
+    public static final int PAPER_RATE = 1;
+    public static final int METALLIC_RATE = 2;
+
     private final int yearsActive;
+    private final Generation generationType;
 
     protected Recycling(Location location, int yearsActive) {
+        this(location, yearsActive, null);
+    }
+
+    protected Recycling(Location location, int yearsActive, Generation generationType) {
         super(location);
         this.yearsActive = yearsActive;
+        // Only Alpha, Beta and Gamma themselves are known to report their generation's rates. A subclass of them may
+        // override getRates() or getGeneration(), so it goes through those like any other centre.
+        this.generationType = isGenerationClass(getClass()) ? generationType : null;
+    }
+
+    protected Recycling(LocationNetwork network, String location, int yearsActive) {
+        this(network, location, yearsActive, null);
+    }
+
+    protected Recycling(LocationNetwork network, String location, int yearsActive, Generation generationType) {
+        super(network, location);
+        this.yearsActive = yearsActive;
+        this.generationType = isGenerationClass(getClass()) ? generationType : null;
+    }
+
+    private static boolean isGenerationClass(Class<?> type) {
+        return type == Alpha.class || type == Beta.class || type == Gamma.class;
     }
 
     public int getYearsActive() {
@@ -16,5 +43,115 @@ public abstract class Recycling extends Site {
 
     public abstract String getGeneration();
 
+    // Rates in m3/hour, in the order plastic/glass, paper, metallic.
     public abstract List<Double> getRates();
+
+    public double getPlasticGlassRate() {
+        return generationType != null ? generationType.getPlasticGlassRate() : getRates().get(PLASTIC_GLASS_RATE);
+    }
+
+    public double getPaperRate() {
+        return generationType != null ? generationType.getPaperRate() : getRates().get(PAPER_RATE);
+    }
+
+    public double getMetallicRate() {
+        return generationType != null ? generationType.getMetallicRate() : getRates().get(METALLIC_RATE);
+    }
+
+    // The generation as an enum, or null if getGeneration() isn't one of the known generations.
+    public Generation getGenerationType() {
+        if (generationType != null) {
+            return generationType;
+        }
+        return Generation.fromName(getGeneration());
+    }
+
+    // Known recycling centre generations, in ascending order of rank, with their rates (m3/hour) for plastic/glass, paper
+    // and metallic waste respectively.
+    public enum Generation {
+        ALPHA("Alpha", 1.0, 1.0, 1.0),
+        BETA("Beta", 1.5, 1.5, 1.5),
+        GAMMA("Gamma", 1.5, 2.0, 3.0);
+
+        private final String displayName;
+        private final double plasticGlassRate;
+        private final double paperRate;
+        private final double metallicRate;
+        private final List<Double> rates;
+
+        Generation(String displayName, double plasticGlassRate, double paperRate, double metallicRate) {
+            this.displayName = displayName;
+            this.plasticGlassRate = plasticGlassRate;
+            this.paperRate = paperRate;
+            this.metallicRate = metallicRate;
+            this.rates = List.of(plasticGlassRate, paperRate, metallicRate);
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        // Higher ranks are newer generations.
+        public int getRank() {
+            return ordinal();
+        }
+
+        public double getPlasticGlassRate() {
+            return plasticGlassRate;
+        }
+
+        public double getPaperRate() {
+            return paperRate;
+        }
+
+        public double getMetallicRate() {
+            return metallicRate;
+        }
+
+        // Boxed view of the rates in the getRates() order, shared by every centre of this generation.
+        public List<Double> getRates() {
+            return rates;
+        }
+
+        // Creates a recycling centre of this generation.
+        public Recycling newCentre(Location location, int yearsActive) {
+            switch (this) {
+                case ALPHA:
+                    return new Alpha(location, yearsActive);
+                case BETA:
+                    return new Beta(location, yearsActive);
+                default:
+                    return new Gamma(location, yearsActive);
+            }
+        }
+
+        // Creates a recycling centre of this generation at a location of a loaded network.
+        public Recycling newCentre(LocationNetwork network, String location, int yearsActive) {
+            switch (this) {
+                case ALPHA:
+                    return new Alpha(network, location, yearsActive);
+                case BETA:
+                    return new Beta(network, location, yearsActive);
+                default:
+                    return new Gamma(network, location, yearsActive);
+            }
+        }
+
+        // Returns null for names that aren't a known generation, including null.
+        public static Generation fromName(String name) {
+            if (name == null) {
+                return null;
+            }
+            switch (name) {
+                case "Alpha":
+                    return ALPHA;
+                case "Beta":
+                    return BETA;
+                case "Gamma":
+                    return GAMMA;
+                default:
+                    return null;
+            }
+        }
+    }
 }
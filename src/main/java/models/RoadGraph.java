@@ -0,0 +1,248 @@
+package models;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+// Locations joined by one-way roads, each with a travel time in hours. Turning the graph into a LocationNetwork works
+// out the shortest travel time between every pair of locations, which is expensive for large graphs, so the result
+// can be cached to disk and reused for as long as the graph is unchanged.
+public final class RoadGraph {
+
+    private static final int CACHE_MAGIC = 0x4C4C5454; // "LLTT"
+    private static final int CACHE_VERSION = 1;
+    private static final int CACHE_HEADER_BYTES = 4 + 4 + 8 + 4;
+
+    private final List<String> names;
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final double[] edgeHours;
+    private final int edgeCount;
+
+    private RoadGraph(List<String> names, int[] edgeFrom, int[] edgeTo, double[] edgeHours, int edgeCount) {
+        this.names = names;
+        this.edgeFrom = edgeFrom;
+        this.edgeTo = edgeTo;
+        this.edgeHours = edgeHours;
+        this.edgeCount = edgeCount;
+    }
+
+    // Reads one road per line as "from,to,hours". Roads are one-way, so a two-way road is listed once in each
+    // direction. Locations are numbered in the order they first appear. Blank lines and lines starting with '#'
+    // are ignored.
+    public static RoadGraph load(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    public static RoadGraph read(BufferedReader reader) throws IOException {
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        int[] edgeFrom = new int[16];
+        int[] edgeTo = new int[16];
+        double[] edgeHours = new double[16];
+        int edgeCount = 0;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.trim().startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split(",", -1);
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected from,to,hours");
+            }
+
+            double hours;
+            try {
+                hours = Double.parseDouble(fields[2].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": invalid travel time '" + fields[2].trim() + "'");
+            }
+            if (!(hours >= 0) || Double.isInfinite(hours)) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": travel times must be finite and not negative");
+            }
+
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+                edgeHours = Arrays.copyOf(edgeHours, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = idFor(fields[0].trim(), names, ids);
+            edgeTo[edgeCount] = idFor(fields[1].trim(), names, ids);
+            edgeHours[edgeCount] = hours;
+            edgeCount++;
+        }
+
+        return new RoadGraph(names, edgeFrom, edgeTo, edgeHours, edgeCount);
+    }
+
+    private static int idFor(String name, List<String> names, Map<String, Integer> ids) {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Location names must not be empty");
+        }
+
+        return ids.computeIfAbsent(name, n -> {
+            names.add(n);
+            return names.size() - 1;
+        });
+    }
+
+    public int size() {
+        return this.names.size();
+    }
+
+    public int edgeCount() {
+        return this.edgeCount;
+    }
+
+    public List<String> getNames() {
+        return List.copyOf(this.names);
+    }
+
+    // Shortest travel times between every pair of locations. A location is 0 hours from itself, and a location that
+    // cannot be reached at all is an infinite number of hours away, so it is never viable.
+    public LocationNetwork toNetwork(ForkJoinPool pool) {
+        return new LocationNetwork(this.names, TravelTimeMatrix.wrap(size(), shortestTimes(pool)));
+    }
+
+    // As toNetwork(pool), but reuses the times saved in cacheFile when they were worked out from this exact graph,
+    // and otherwise works them out and saves them there.
+    public LocationNetwork toNetwork(ForkJoinPool pool, Path cacheFile) throws IOException {
+        long fingerprint = fingerprint();
+
+        double[] times = readCache(cacheFile, fingerprint, size());
+        if (times == null) {
+            times = shortestTimes(pool);
+            writeCache(cacheFile, fingerprint, size(), times);
+        }
+
+        return new LocationNetwork(this.names, TravelTimeMatrix.wrap(size(), times));
+    }
+
+    private double[] shortestTimes(ForkJoinPool pool) {
+        int n = size();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("Too many locations to hold every travel time in memory: " + n);
+        }
+
+        double[] times = new double[n * n];
+        Arrays.fill(times, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < n; i++) {
+            times[i * n + i] = 0.0;
+        }
+        for (int e = 0; e < this.edgeCount; e++) {
+            int index = this.edgeFrom[e] * n + this.edgeTo[e];
+            times[index] = Math.min(times[index], this.edgeHours[e]);
+        }
+
+        FloydWarshall.run(times, n, pool);
+        return times;
+    }
+
+    // FNV-1a over the location names and roads, so any change to the graph gets a different cache entry.
+    long fingerprint() {
+        long hash = 0xcbf29ce484222325L;
+        for (String name : this.names) {
+            for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+            }
+            hash = (hash ^ 0xff) * 0x100000001b3L;
+        }
+        for (int e = 0; e < this.edgeCount; e++) {
+            hash = (hash ^ this.edgeFrom[e]) * 0x100000001b3L;
+            hash = (hash ^ this.edgeTo[e]) * 0x100000001b3L;
+            hash = (hash ^ Double.doubleToLongBits(this.edgeHours[e])) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Returns null when there is no usable cache, so the caller works the times out again.
+    private static double[] readCache(Path cacheFile, long fingerprint, int size) throws IOException {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            if (channel.size() != CACHE_HEADER_BYTES + (long) size * size * Double.BYTES) {
+                return null;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.limit(0);
+            fill(channel, buffer);
+            if (buffer.getInt() != CACHE_MAGIC || buffer.getInt() != CACHE_VERSION
+                    || buffer.getLong() != fingerprint || buffer.getInt() != size) {
+                return null;
+            }
+
+            double[] times = new double[size * size];
+            for (int i = 0; i < times.length; i++) {
+                if (buffer.remaining() < Double.BYTES) {
+                    fill(channel, buffer);
+                }
+                times[i] = buffer.getDouble();
+            }
+            return times;
+        }
+    }
+
+    private static void fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.compact();
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // keep reading until the buffer is full or the file runs out
+        }
+        buffer.flip();
+    }
+
+    // Written to a temporary file first, so a crash part way through never leaves a half-written cache behind.
+    private static void writeCache(Path cacheFile, long fingerprint, int size, double[] times) throws IOException {
+        Path directory = cacheFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(CACHE_MAGIC).putInt(CACHE_VERSION).putLong(fingerprint).putInt(size);
+
+                for (double time : times) {
+                    if (buffer.remaining() < Double.BYTES) {
+                        drain(channel, buffer);
+                    }
+                    buffer.putDouble(time);
+                }
+                drain(channel, buffer);
+            }
+
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
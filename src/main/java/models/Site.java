@@ -3,11 +3,41 @@ package models;
 abstract class Site {
     private final Location location;
 
+    // Where the site is on a loaded LocationNetwork: the network, the location's id on it and its name. A site created
+    // from a Location has no network and takes the Location's name, so any network can look it up by name.
+    private final LocationNetwork network;
+    private final int locationId;
+    private final String locationName;
+
     Site(Location location) {
         this.location = location;
+        this.network = null;
+        this.locationId = -1;
+        this.locationName = location == null ? null : location.name();
+    }
+
+    // Throws IllegalArgumentException if the network has no location of that name. The site is also at the built-in
+    // Location of the same name, if there is one, so A, B and C still work with everything that takes a Location.
+    Site(LocationNetwork network, String locationName) {
+        this.locationId = network.idOf(locationName);
+        this.network = network;
+        this.locationName = locationName;
+        this.location = Location.fromName(locationName);
     }
 
     public Location getLocation() {
         return location;
     }
+
+    public String getLocationName() {
+        return locationName;
+    }
+
+    LocationNetwork getNetwork() {
+        return network;
+    }
+
+    int getLocationId() {
+        return locationId;
+    }
 }
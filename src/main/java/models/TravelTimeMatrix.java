@@ -0,0 +1,54 @@
+package models;
+
+// Travel times between locations, held in a flat row-major array indexed by location ordinal (from * size + to).
+public final class TravelTimeMatrix implements TravelTimes {
+
+    // Location-to-location times: zero within a location and the same in both directions.
+    public static final TravelTimeMatrix LOCATION = new TravelTimeMatrix(3, new double[] {
+            0.0, 2.0, 4.0,  // from A
+            2.0, 0.0, 3.0,  // from B
+            4.0, 3.0, 0.0   // from C
+    });
+
+    // Times used for a transport journey: a trip within a location takes 1 hour, except B to B which takes 3, and C to B takes 1.
+    public static final TravelTimeMatrix TRANSPORT = new TravelTimeMatrix(3, new double[] {
+            1.0, 2.0, 4.0,  // from A
+            2.0, 3.0, 3.0,  // from B
+            4.0, 1.0, 1.0   // from C
+    });
+
+    private final int size;
+    private final double[] times;
+
+    public TravelTimeMatrix(int size, double[] times) {
+        this(times.clone(), size);
+    }
+
+    private TravelTimeMatrix(double[] times, int size) {
+        if (size < 0 || times.length != size * size) {
+            throw new IllegalArgumentException("Travel times must be a " + size + " x " + size + " matrix");
+        }
+
+        this.size = size;
+        this.times = times;
+    }
+
+    // Takes ownership of times without copying, for large matrices built inside this package.
+    static TravelTimeMatrix wrap(int size, double[] times) {
+        return new TravelTimeMatrix(times, size);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public double travelTime(int from, int to) {
+        return this.times[from * this.size + to];
+    }
+
+    public double travelTime(Location from, Location to) {
+        return travelTime(from.ordinal(), to.ordinal());
+    }
+}
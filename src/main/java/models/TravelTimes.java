@@ -0,0 +1,9 @@
+package models;
+
+// Travel times between locations identified by dense integer ids, 0 to size() - 1.
+public interface TravelTimes {
+
+    int size();
+
+    double travelTime(int from, int to);
+}
@@ -0,0 +1,148 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Batch Runner: One Row Per Scenario Matching Utils")
+    void testBatchRunnerRows_TC_001() throws IOException {
+        // Arrange
+        String input = "# id,historicLocation,initialWaste,centres\n"
+                + "s1,A,2000,B:Beta:5;A:Alpha:3\n"
+                + "\n"
+                + "s2,B,1000,B:Gamma:1;C:Alpha:2\n";
+        StringWriter output = new StringWriter();
+
+        // Act
+        long scenarios = BatchRunner.run(new BufferedReader(new StringReader(input)), output);
+
+        // Assert
+        List<String> rows = output.toString().lines().toList();
+        ScenarioResult expected = Utils.evaluateScenario(new Historic(Location.A, 2000), List.of(new Beta(Location.B, 5), new Alpha(Location.A, 3)));
+        assertEquals(2, scenarios, "Comments and blank lines should be skipped");
+        assertEquals(BatchRunner.RESULT_HEADER, rows.get(0));
+        assertEquals("s1,A,2000.0,2,A,Alpha,3," + expected.getTravelDuration() + "," + expected.getProcessDuration() + "," + expected.getTotalDuration() + ",", rows.get(1));
+        assertTrue(rows.get(2).startsWith("s2,B,1000.0,1,C,Alpha,2,"), "Gamma needs metallic waste so Alpha at C should be chosen");
+    }
+
+    @Test
+    @DisplayName("Batch Runner: Files In And Out")
+    void testBatchRunnerFiles_TC_002(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path input = directory.resolve("scenarios.csv");
+        Path output = directory.resolve("results.csv");
+        Files.writeString(input, "s1,C,5000,C:Gamma:4\n");
+
+        // Act
+        long scenarios = BatchRunner.run(input, output);
+
+        // Assert
+        assertEquals(1, scenarios);
+        assertEquals(2, Files.readAllLines(output).size(), "Results should have a header and one row");
+    }
+
+    @Test
+    @DisplayName("Batch Runner: Scenarios On A Loaded Network")
+    void testBatchRunnerNetwork_TC_003() throws IOException {
+        // Arrange
+        LocationNetwork network = LocationNetwork.read(new BufferedReader(new StringReader(String.join("\n",
+                ",Depot,North,South",
+                "Depot,0.5,2,4",
+                "North,2,0.5,3",
+                "South,4,3,0.5"))));
+        String input = "s1,Depot,2000,North:Gamma:5;South:Alpha:1\n"
+                + "s2,South,1000,South:Beta:3;North:Alpha:2\n"
+                + "s3,A,1000,North:Alpha:2\n";
+        StringWriter sequential = new StringWriter();
+        StringWriter parallel = new StringWriter();
+
+        // Act
+        BatchRunner.run(new BufferedReader(new StringReader(input)), sequential, network);
+        try (ScenarioExecutor executor = new ScenarioExecutor(2)) {
+            BatchRunner.run(new BufferedReader(new StringReader(input)), parallel, executor, network);
+        }
+
+        // Assert
+        List<String> rows = sequential.toString().lines().toList();
+        Historic depot = new Historic(network, "Depot", 2000);
+        ScenarioResult expected = Utils.evaluateScenario(depot, List.of(new Gamma(network, "North", 5)), network);
+        assertEquals("s1,Depot,2000.0,1,North,Gamma,5," + expected.getTravelDuration() + "," + expected.getProcessDuration()
+                + "," + expected.getTotalDuration() + ",", rows.get(1), "South is more than 3 hours from the depot");
+        assertTrue(rows.get(2).startsWith("s2,South,1000.0,2,South,Beta,3,"));
+        assertTrue(rows.get(3).endsWith("Unknown location 'A'"), "A isn't part of the loaded network");
+        assertEquals(sequential.toString(), parallel.toString(), "Parallel rows should match the sequential ones");
+    }
+
+    @Test
+    @DisplayName("Batch Runner: Scenarios On A Memory-Mapped Network")
+    void testBatchRunnerMappedNetwork_TC_004(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path matrix = directory.resolve("network.lltf");
+        MappedTravelTimeMatrix.write(matrix, new TravelTimeMatrix(3, new double[] {
+                0.5, 2, 4,
+                2, 0.5, 3,
+                4, 3, 0.5}));
+        LocationNetwork network = LocationNetwork.open(matrix);
+        String input = "s1,0,2000,1:Gamma:5;2:Alpha:1\n";
+        StringWriter output = new StringWriter();
+
+        // Act
+        BatchRunner.run(new BufferedReader(new StringReader(input)), output, network);
+
+        // Assert
+        ScenarioResult expected = Utils.evaluateScenario(new Historic(network, "0", 2000), List.of(new Gamma(network, "1", 5)), network);
+        assertEquals("s1,0,2000.0,1,1,Gamma,5," + expected.getTravelDuration() + "," + expected.getProcessDuration()
+                + "," + expected.getTotalDuration() + ",", output.toString().lines().toList().get(1));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Batch Runner: Bad Scenarios Fail Individually")
+    void testBatchRunnerErrors_TC_001() throws IOException {
+        // Arrange
+        String input = "bad-location,D,2000,A:Alpha:1\n"
+                + "bad-generation,A,2000,A:Delta:1\n"
+                + "no-centres,A,2000,\n"
+                + "too-far,A,2000,C:Alpha:1\n"
+                + "good,A,2000,A:Alpha:1\n";
+        StringWriter output = new StringWriter();
+
+        // Act
+        BatchRunner.run(new BufferedReader(new StringReader(input)), output);
+
+        // Assert
+        List<String> rows = output.toString().lines().toList();
+        assertEquals(6, rows.size(), "Every scenario should get a row");
+        assertTrue(rows.get(1).endsWith("Unknown location 'D'"));
+        assertTrue(rows.get(2).endsWith("Unknown generation 'Delta'"));
+        assertFalse(rows.get(3).endsWith(","), "No centres should be reported as an error");
+        assertFalse(rows.get(4).endsWith(","), "No viable centres should be reported as an error");
+        assertTrue(rows.get(5).startsWith("good,A,2000.0,1,A,Alpha,1,") && rows.get(5).endsWith(","), "Later scenarios should still run");
+    }
+
+    @Test
+    @DisplayName("Batch Runner: Missing Fields Reported As Error")
+    void testBatchRunnerMissingFields_TC_002() {
+        // Act
+        String row = BatchRunner.evaluateLine("s1,A", 1);
+
+        // Assert
+        assertEquals(11, row.split(",", -1).length, "Error rows should have every column");
+        assertTrue(row.startsWith("s1,A,"));
+    }
+}
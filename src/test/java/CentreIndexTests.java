@@ -0,0 +1,138 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CentreIndexTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Centre Index: Matches Utils Pipeline")
+    void testMatchesUtils_TC_001() {
+        Random random = new Random(7);
+
+        // Act & Assert
+        ScenarioFixtures.assertMatchesUtils(random, random.ints(200, 1, 41).toArray(), centres -> {
+            CentreIndex index = new CentreIndex();
+            index.addAll(centres);
+            return ScenarioFixtures.CentreSelection.of(index::findViableCentres, index::findOptimalCentre);
+        });
+    }
+
+    @Test
+    @DisplayName("Centre Index: Earliest Centre Wins A Tie")
+    void testTieGoesToEarliest_TC_002() {
+        // Arrange
+        Recycling first = new Beta(Location.B, 2);
+        Recycling second = new Beta(Location.B, 2);
+        CentreIndex index = new CentreIndex();
+        index.addAll(List.of(new Alpha(Location.B, 2), first, second));
+
+        // Act
+        Recycling optimal = index.findOptimalCentre(new Historic(Location.A, 1000));
+
+        // Assert
+        assertSame(first, optimal, "The first Beta added should win the tie");
+    }
+
+    @Test
+    @DisplayName("Centre Index: Uses Custom Network")
+    void testCustomNetwork_TC_003() {
+        // Arrange
+        LocationNetwork network = new LocationNetwork(List.of("A", "B", "C"), new TravelTimeMatrix(3, new double[] {
+                1, 5, 2,
+                5, 1, 5,
+                2, 5, 1}));
+        CentreIndex index = new CentreIndex(network);
+        Recycling nearC = new Alpha(Location.C, 4);
+        index.addAll(List.of(new Alpha(Location.B, 1), nearC));
+
+        // Act
+        Recycling optimal = index.findOptimalCentre(new Historic(Location.A, 1000));
+
+        // Assert
+        assertSame(nearC, optimal, "B is out of reach on this network");
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Centre Index: Single And Bulk Adds Agree")
+    void testMixedAdds_TC_004() {
+        Random random = new Random(11);
+
+        // Act & Assert
+        ScenarioFixtures.assertMatchesUtils(random, random.ints(100, 1, 61).toArray(), centres -> {
+            CentreIndex index = new CentreIndex();
+            int third = centres.size() / 3;
+            centres.subList(0, third).forEach(index::add);
+            index.addAll(centres.subList(third, 2 * third));
+            centres.subList(2 * third, centres.size()).forEach(index::add);
+            return ScenarioFixtures.CentreSelection.of(index::findViableCentres, index::findOptimalCentre);
+        });
+    }
+
+    @Test
+    @DisplayName("Centre Index: Descending Bulk Load Keeps The Earliest Of The Least Active")
+    void testDescendingBulkLoad_TC_005() {
+        // Arrange: pairs of centres, each pair active for a year less than the one before
+        List<Recycling> centres = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            centres.add(new Beta(Location.B, (20_000 - i - 1) / 2));
+        }
+        CentreIndex index = new CentreIndex();
+
+        // Act
+        index.addAll(centres);
+        Historic historic = new Historic(Location.A, 1000);
+
+        // Assert
+        assertSame(centres.get(19_998), index.findOptimalCentre(historic), "The first of the last pair should win");
+        assertEquals(centres, index.findViableCentres(historic), "Viable centres should stay in the order added");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Centre Index: Empty Index Has No Optimal Centre")
+    void testEmptyIndex_TC_001() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+
+        // Act & Assert
+        assertTrue(index.findViableCentres(new Historic(Location.A, 1000)).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> index.findOptimalCentre(new Historic(Location.A, 1000)));
+    }
+
+    @Test
+    @DisplayName("Centre Index: Unknown Generation Winner Throws Exception")
+    void testUnknownGeneration_TC_002() {
+        // Arrange
+        Recycling custom = ScenarioFixtures.unknownCentre(Location.A, 1);
+        CentreIndex index = new CentreIndex();
+        index.addAll(List.of(custom, new Alpha(Location.A, 3)));
+        Historic historic = new Historic(Location.A, 1000);
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> Utils.findOptimalCentre(historic, List.of(custom, new Alpha(Location.A, 3))));
+        assertThrows(NoSuchElementException.class, () -> index.findOptimalCentre(historic));
+    }
+
+    @Test
+    @DisplayName("Centre Index: Gamma Is Skipped Without Metallic Waste")
+    void testGammaSkipped_TC_003() {
+        // Arrange
+        CentreIndex index = new CentreIndex();
+        index.add(new Gamma(Location.A, 1));
+
+        // Act & Assert
+        assertTrue(index.findViableCentres(new Historic(Location.A, 1000)).isEmpty());
+        assertEquals(1, index.findViableCentres(new Historic(Location.A, 2000)).size());
+    }
+}
@@ -0,0 +1,66 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CentreMasksTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Centre Masks: Matches Utils Pipeline Across Word Boundaries")
+    void testMatchesUtils_TC_001() {
+        // Act & Assert
+        ScenarioFixtures.assertMatchesUtils(new Random(11), new int[] {1, 63, 64, 65, 130, 1000}, centres -> {
+            CentreMasks masks = new CentreMasks(centres);
+            return ScenarioFixtures.CentreSelection.of(historic -> {
+                List<Recycling> viable = masks.findViableCentres(historic);
+                assertEquals(viable.size(), masks.viableMask(historic).cardinality(), "Viable mask should match the viable centres");
+                return viable;
+            }, masks::findOptimalCentre);
+        });
+    }
+
+    @Test
+    @DisplayName("Centre Masks: Viable Mask Marks Registry Positions")
+    void testViableMask_TC_002() {
+        // Arrange
+        CentreMasks masks = new CentreMasks(List.of(new Alpha(Location.A, 1), new Gamma(Location.A, 1), new Beta(Location.C, 1)));
+
+        // Act
+        BitSet viable = masks.viableMask(new Historic(Location.A, 1000));
+
+        // Assert
+        assertEquals(BitSet.valueOf(new long[] {0b001}), viable, "Only the Alpha at A is viable from A without metallic waste");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Centre Masks: No Viable Centre Throws Exception")
+    void testNoViableCentre_TC_001() {
+        // Arrange
+        CentreMasks masks = new CentreMasks(List.of(new Gamma(Location.A, 1), new Alpha(Location.C, 1)));
+
+        // Act & Assert
+        assertTrue(masks.findViableCentres(new Historic(Location.A, 1000)).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> masks.findOptimalCentre(new Historic(Location.A, 1000)));
+    }
+
+    @Test
+    @DisplayName("Centre Masks: Empty Registry Has No Viable Centres")
+    void testEmptyRegistry_TC_002() {
+        // Arrange
+        CentreMasks masks = new CentreMasks(List.of());
+
+        // Act & Assert
+        assertEquals(0, masks.size());
+        assertTrue(masks.viableMask(new Historic(Location.B, 2000)).isEmpty());
+    }
+}
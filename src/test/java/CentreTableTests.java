@@ -0,0 +1,97 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CentreTableTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Centre Table: Matches Utils Pipeline")
+    void testMatchesUtils_TC_001() {
+        Random random = new Random(19);
+
+        // Act & Assert
+        ScenarioFixtures.assertMatchesUtils(random, random.ints(100, 1, 2001).toArray(), centres -> {
+            CentreTable table = new CentreTable();
+            for (Recycling centre : centres) {
+                table.add(centre);
+            }
+            return ScenarioFixtures.CentreSelection.of(historic -> {
+                List<Recycling> viable = new ArrayList<>();
+                for (int index : table.filterViable(historic)) {
+                    viable.add(centres.get(index));
+                }
+                return viable;
+            }, historic -> {
+                int origin = historic.getLocation().ordinal();
+                assertSame(ScenarioFixtures.optimalOrNull(() -> centres.get(table.selectOptimal(historic))),
+                        ScenarioFixtures.optimalOrNull(() -> centres.get(table.selectOptimal(origin, table.filterViable(historic)))),
+                        "Selecting from the viable indices should pick the same centre");
+                return centres.get(table.selectOptimal(historic));
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("Centre Table: Stores Centre Fields")
+    void testStoresFields_TC_002() {
+        // Arrange
+        CentreTable table = new CentreTable(LocationNetwork.builtIn(), 0);
+
+        // Act
+        int index = table.add(2, Recycling.Generation.BETA, 7);
+
+        // Assert
+        assertEquals(0, index);
+        assertEquals(1, table.size());
+        assertEquals(2, table.getLocationId(index));
+        assertEquals(Recycling.Generation.BETA, table.getGeneration(index));
+        assertEquals(7, table.getYearsActive(index));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Centre Table: No Viable Centre Throws Exception")
+    void testNoViableCentre_TC_001() {
+        // Arrange
+        CentreTable table = new CentreTable();
+        table.add(new Gamma(Location.A, 1));
+
+        // Act & Assert
+        assertEquals(0, table.filterViable(new Historic(Location.A, 1000)).length);
+        assertThrows(NoSuchElementException.class, () -> table.selectOptimal(new Historic(Location.A, 1000)));
+    }
+
+    @Test
+    @DisplayName("Centre Table: Unknown Generation Winner Throws Exception")
+    void testUnknownGeneration_TC_002() {
+        // Arrange
+        CentreTable table = new CentreTable();
+        table.add(0, null, 1);
+        table.add(0, Recycling.Generation.ALPHA, 3);
+
+        // Act & Assert
+        assertNull(table.getGeneration(0));
+        assertThrows(NoSuchElementException.class, () -> table.selectOptimal(new Historic(Location.A, 1000)));
+    }
+
+    @Test
+    @DisplayName("Centre Table: Invalid Location Or Index Throws Exception")
+    void testInvalidLocationOrIndex_TC_003() {
+        // Arrange
+        CentreTable table = new CentreTable();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> table.add(3, Recycling.Generation.ALPHA, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getYearsActive(0));
+    }
+}
@@ -0,0 +1,162 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Fleet Travel Duration: Closed Form Matches Simulated Last Arrival")
+    void testClosedFormMatchesSimulation_TC_001() {
+        TripSimulation simulation = new TripSimulation();
+
+        for (double waste : new double[] {20, 1000, 2000, 12345.6}) {
+            for (int trucks : new int[] {1, 2, 3, 7, 50, 1000}) {
+                // Arrange
+                Historic historic = new Historic(Location.A, waste);
+                Recycling centre = new Beta(Location.C, 2);
+
+                // Act
+                double closedForm = Utils.calculateFleetTravelDuration(historic, centre, trucks);
+                simulation.run(historic, centre, LocationNetwork.builtIn(), trucks);
+
+                // Assert
+                assertEquals(closedForm, simulation.getLastArrivalTime(), 1e-9, waste + " m3 with " + trucks + " trucks");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Fleet Makespan: One Truck Matches Single-Truck Simulation")
+    void testOneTruckMatchesDefault_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 3456);
+        Recycling centre = new Gamma(Location.C, 4);
+
+        // Act & Assert
+        assertEquals(Utils.calculateMakespan(historic, centre), Utils.calculateFleetMakespan(historic, centre, 1));
+        assertEquals(Utils.calculateTravelDuration(historic, centre), Utils.calculateFleetTravelDuration(historic, centre, 1));
+    }
+
+    @Test
+    @DisplayName("Fleet Makespan: Never Grows With More Trucks")
+    void testMakespanMonotone_TC_003() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000);
+        Recycling centre = new Alpha(Location.C, 1);
+
+        // Act & Assert
+        double previous = Double.POSITIVE_INFINITY;
+        for (int trucks = 1; trucks <= 260; trucks++) {
+            double makespan = Utils.calculateFleetMakespan(historic, centre, trucks);
+            assertTrue(makespan <= previous, "Makespan with " + trucks + " trucks should not exceed " + previous);
+            previous = makespan;
+        }
+    }
+
+    @Test
+    @DisplayName("Minimum Fleet Size: Smallest Fleet Meeting The Deadline")
+    void testMinimumFleetSize_TC_004() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 5000);
+        Recycling centre = new Gamma(Location.C, 1);
+        double deadline = Utils.calculateFleetMakespan(historic, centre, 17) + 1e-9;
+
+        // Act
+        int trucks = Utils.findMinimumFleetSize(historic, centre, deadline);
+
+        // Assert
+        assertTrue(Utils.calculateFleetMakespan(historic, centre, trucks) <= deadline);
+        assertTrue(trucks == 1 || Utils.calculateFleetMakespan(historic, centre, trucks - 1) > deadline,
+                "One truck fewer should miss the deadline");
+    }
+
+    @Test
+    @DisplayName("Minimum Fleet Size For Travel: Closed Form")
+    void testMinimumFleetSizeForTravel_TC_005() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000); // 100 trips of 4 hours from A to C
+        Recycling centre = new Alpha(Location.C, 1);
+
+        // Act
+        int trucks = Utils.findMinimumFleetSizeForTravel(historic, centre, 40);
+
+        // Assert
+        assertEquals(10, trucks, "Each truck fits 10 trips in 40 hours");
+        assertEquals(40.0, Utils.calculateFleetTravelDuration(historic, centre, trucks));
+        assertTrue(Utils.calculateFleetTravelDuration(historic, centre, trucks - 1) > 40);
+    }
+
+    @Test
+    @DisplayName("Fleet: Trips On A Loaded Network")
+    void testLoadedNetwork_TC_006() throws IOException {
+        // Arrange
+        LocationNetwork network = LocationNetwork.read(new BufferedReader(new StringReader(String.join("\n",
+                ",Depot,North",
+                "Depot,0.5,2",
+                "North,2,0.5"))));
+        Historic historic = new Historic(network, "Depot", 2000);
+        Recycling centre = new Alpha(network, "North", 1);
+        double travel = Utils.calculateTravelDuration(historic, centre, network);
+
+        // Act
+        double fleetTravel = Utils.calculateFleetTravelDuration(historic, centre, 1, network);
+        double makespan = Utils.calculateFleetMakespan(historic, centre, 1, network);
+        int trucks = Utils.findMinimumFleetSizeForTravel(historic, centre, travel / 4, network);
+        int fleet = Utils.findMinimumFleetSize(historic, centre, makespan, network);
+
+        // Assert
+        assertEquals(travel, fleetTravel, 1e-9);
+        assertEquals(new TripSimulation().run(historic, centre, network), makespan, 1e-9);
+        assertEquals(4, trucks, "A quarter of the trips each should take four trucks");
+        assertEquals(1, fleet, "One truck should meet its own makespan");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Minimum Fleet Size: Unreachable Deadline Returns -1")
+    void testUnreachableDeadline_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        Recycling centre = new Alpha(Location.C, 1);
+
+        // Act & Assert
+        assertEquals(-1, Utils.findMinimumFleetSizeForTravel(historic, centre, 3.9), "Not even one 4 hour trip fits");
+        assertEquals(-1, Utils.findMinimumFleetSize(historic, centre, Utils.calculateProcessDuration(historic, centre)),
+                "Processing alone takes the whole deadline, before any load has arrived");
+    }
+
+    @Test
+    @DisplayName("Fleet: Fewer Than One Truck Throws Exception")
+    void testNoTrucks_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        Recycling centre = new Alpha(Location.C, 1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Utils.calculateFleetTravelDuration(historic, centre, 0));
+        assertThrows(IllegalArgumentException.class, () -> Utils.calculateFleetMakespan(historic, centre, 0));
+    }
+
+    @Test
+    @DisplayName("Fleet: Less Than A Load Returns -1")
+    void testLessThanALoad_TC_003() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 10);
+        Recycling centre = new Alpha(Location.A, 1);
+
+        // Act & Assert
+        assertEquals(-1.0, Utils.calculateFleetTravelDuration(historic, centre, 4));
+        assertEquals(-1.0, Utils.calculateFleetMakespan(historic, centre, 4));
+        assertEquals(-1, Utils.findMinimumFleetSizeForTravel(historic, centre, 100));
+        assertEquals(-1, Utils.findMinimumFleetSize(historic, centre, 100));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -13,6 +14,8 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -74,7 +77,27 @@ class MainTests {
         // Assert
         String output = outputStream.toString();
         assertTrue(output.contains("This is a prototype of the Landfill Labs Worker Service."));
-        assertTrue(output.contains("To run multiple scenarios, you should run the application multiple times."));
+        assertTrue(output.contains("To run multiple scenarios, run the application with --batch <scenarios file> [results file]."));
+        assertTrue(output.contains("--threads <count>, --cache <entries> or --store <file>"));
+    }
+
+    @Test
+    @DisplayName("Run Batch On A Loaded Network")
+    void testBatchWithNetwork_TC_001(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path network = directory.resolve("network.csv");
+        Path scenarios = directory.resolve("scenarios.csv");
+        Path results = directory.resolve("results.csv");
+        Files.writeString(network, ",Depot,North\nDepot,0.5,2\nNorth,2,0.5\n");
+        Files.writeString(scenarios, "s1,Depot,2000,North:Beta:4\n");
+
+        // Act
+        Main.main(new String[] {"--batch", scenarios.toString(), results.toString(), "--network", network.toString()});
+
+        // Assert
+        List<String> rows = Files.readAllLines(results);
+        assertEquals(2, rows.size(), "Results should have a header and one row");
+        assertTrue(rows.get(1).startsWith("s1,Depot,2000.0,1,North,Beta,4,"), "The centre at North should be chosen");
     }
 
     @Test
@@ -164,6 +187,23 @@ class MainTests {
                 "Exception message should match the expected null pointer message");
     }
 
+    @Test
+    @DisplayName("Reject Batch Option Without A Value")
+    void testBatchOptionWithoutValue_TC_001() {
+        for (String option : List.of("--threads", "--cache", "--store")) {
+            // Arrange
+            outputStream.reset();
+
+            // Act
+            Main.main(new String[] {"--batch", "missing-scenarios.csv", option});
+
+            // Assert
+            String output = outputStream.toString();
+            assertTrue(output.startsWith("Usage: --batch"), "A trailing " + option + " should print the usage");
+            assertFalse(output.contains("Batch run failed"), "A trailing " + option + " shouldn't start a run");
+        }
+    }
+
     // Edge Case Test Cases
 
     @Test
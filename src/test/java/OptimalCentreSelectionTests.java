@@ -0,0 +1,64 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimalCentreSelectionTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Select Optimal Centre: Matches Three-Stage Selection")
+    void testSelectOptimalCentreMatchesStages_TC_001() {
+        Random random = new Random(42);
+
+        // Act & Assert
+        ScenarioFixtures.assertMatchesUtils(random, random.ints(500, 1, 21).toArray(), centres -> ScenarioFixtures.CentreSelection.of(
+                historic -> Utils.filterViableCentres(historic, centres),
+                historic -> Utils.selectOptimalCentre(historic, Utils.filterViableCentres(historic, centres))));
+    }
+
+    @Test
+    @DisplayName("Select Optimal Centre: Earliest Centre Wins A Tie")
+    void testSelectOptimalCentreTie_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        Recycling first = new Beta(Location.A, 2);
+        Recycling second = new Beta(Location.A, 2);
+
+        // Act
+        Recycling optimal = Utils.selectOptimalCentre(historic, List.of(first, second));
+
+        // Assert
+        assertSame(first, optimal, "The earliest of identical centres should be chosen");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Select Optimal Centre: Empty List Throws Exception")
+    void testSelectOptimalCentreWithEmptyList_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> Utils.selectOptimalCentre(historic, new ArrayList<>()));
+    }
+
+    @Test
+    @DisplayName("Select Optimal Centre: Only Unknown Generations Throws Exception")
+    void testSelectOptimalCentreWithUnknownGeneration_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        Recycling custom = ScenarioFixtures.unknownCentre(Location.A, 1);
+
+        // Act & Assert
+        assertThrows(NoSuchElementException.class, () -> Utils.selectOptimalCentre(historic, List.of(custom, new Alpha(Location.A, 3))));
+    }
+}
@@ -0,0 +1,101 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProcessDurationsTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Process Durations: Batch Matches Utils For Every Length")
+    void testBatchMatchesUtils_TC_001() {
+        Random random = new Random(20);
+
+        for (int length = 0; length <= 37; length++) {
+            // Arrange
+            Historic[] sites = new Historic[length];
+            Recycling.Generation[] generations = new Recycling.Generation[length];
+            double[] plasticGlass = new double[length];
+            double[] paper = new double[length];
+            double[] metallic = new double[length];
+            double[] plasticGlassRates = new double[length];
+            double[] paperRates = new double[length];
+            double[] metallicRates = new double[length];
+            for (int i = 0; i < length; i++) {
+                sites[i] = new Historic(Location.A, random.nextDouble() * 5000);
+                generations[i] = Recycling.Generation.values()[random.nextInt(Recycling.Generation.values().length)];
+                plasticGlass[i] = sites[i].getPlasticGlass();
+                paper[i] = sites[i].getPaper();
+                metallic[i] = sites[i].getMetallic();
+                plasticGlassRates[i] = generations[i].getPlasticGlassRate();
+                paperRates[i] = generations[i].getPaperRate();
+                metallicRates[i] = generations[i].getMetallicRate();
+            }
+            double[] durations = new double[length];
+
+            // Act
+            ProcessDurations.calculate(plasticGlass, paper, metallic, plasticGlassRates, paperRates, metallicRates, durations);
+
+            // Assert
+            for (int i = 0; i < length; i++) {
+                assertEquals(Utils.calculateProcessDuration(sites[i], generations[i]), durations[i],
+                        "Duration " + i + " of " + length + " should match Utils exactly");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Process Durations: Scalar Fallback Matches Batch")
+    void testScalarMatchesBatch_TC_002() {
+        // Arrange
+        int length = 1001;
+        Random random = new Random(21);
+        double[][] inputs = new double[6][length];
+        for (double[] input : inputs) {
+            for (int i = 0; i < length; i++) {
+                input[i] = 0.5 + random.nextDouble() * 100;
+            }
+        }
+        double[] batch = new double[length];
+        double[] scalar = new double[length];
+
+        // Act
+        ProcessDurations.calculate(inputs[0], inputs[1], inputs[2], inputs[3], inputs[4], inputs[5], batch);
+        ProcessDurations.calculateScalar(inputs[0], inputs[1], inputs[2], inputs[3], inputs[4], inputs[5], scalar, 0);
+
+        // Assert
+        assertArrayEquals(scalar, batch, "Vector and scalar paths should give identical results");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Process Durations: Mismatched Lengths Throw Exception")
+    void testMismatchedLengths_TC_001() {
+        // Arrange
+        double[] three = new double[3];
+        double[] four = new double[4];
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> ProcessDurations.calculate(three, three, three, three, three, four, three));
+    }
+
+    @Test
+    @DisplayName("Process Durations: Zero Rate Gives Infinite Duration")
+    void testZeroRate_TC_002() {
+        // Arrange
+        double[] durations = new double[1];
+
+        // Act
+        ProcessDurations.calculate(new double[] {10}, new double[] {0}, new double[] {0},
+                new double[] {0}, new double[] {1}, new double[] {1}, durations);
+
+        // Assert
+        assertEquals(Double.POSITIVE_INFINITY, durations[0]);
+    }
+}
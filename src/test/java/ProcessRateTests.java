@@ -0,0 +1,48 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProcessRateTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Process Duration: Generation Rates Match Centre Rates")
+    void testProcessDurationByGeneration_TC_001() {
+        double[] wasteQuantities = {0, 20, 1000, 1250, 1251, 2000, 5000};
+
+        for (double waste : wasteQuantities) {
+            // Arrange
+            Historic historic = new Historic(Location.B, waste);
+
+            // Act & Assert
+            assertEquals(Utils.calculateProcessDuration(historic, new Alpha(Location.A, 1)), Utils.calculateProcessDuration(historic, Recycling.Generation.ALPHA));
+            assertEquals(Utils.calculateProcessDuration(historic, new Beta(Location.A, 1)), Utils.calculateProcessDuration(historic, Recycling.Generation.BETA));
+            assertEquals(Utils.calculateProcessDuration(historic, new Gamma(Location.A, 1)), Utils.calculateProcessDuration(historic, Recycling.Generation.GAMMA));
+        }
+    }
+
+    @Test
+    @DisplayName("Process Duration: Gamma Splits Materials Across Rates")
+    void testProcessDurationGamma_TC_002() {
+        // Act
+        double duration = Utils.calculateProcessDuration(150, 200, 300, Recycling.Generation.GAMMA);
+
+        // Assert
+        assertEquals(300.0, duration, 1e-9, "150/1.5 + 200/2 + 300/3 should be 300 hours");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Process Duration: No Waste Takes No Time")
+    void testProcessDurationWithNoWaste_TC_001() {
+        // Act
+        double duration = Utils.calculateProcessDuration(0, 0, 0, Recycling.Generation.ALPHA);
+
+        // Assert
+        assertEquals(0.0, duration, "Processing nothing should take no time");
+    }
+}
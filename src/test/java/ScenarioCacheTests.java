@@ -0,0 +1,181 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioCacheTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Scenario Fingerprint: Centre Order Does Not Matter")
+    void testFingerprintIgnoresOrder_TC_001() {
+        // Arrange
+        ScenarioConfiguration first = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3), new Gamma(Location.A, 1), new Beta(Location.C, 7));
+        ScenarioConfiguration second = ScenarioFixtures.scenario(Location.A, 2000, new Beta(Location.C, 7), new Alpha(Location.B, 3), new Gamma(Location.A, 1));
+
+        // Act & Assert
+        assertEquals(ScenarioFingerprint.of(first), ScenarioFingerprint.of(second));
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Repeat Scenario Is A Hit")
+    void testRepeatIsHit_TC_002() {
+        // Arrange
+        AtomicInteger evaluations = new AtomicInteger();
+        ScenarioCache cache = new ScenarioCache(10, s -> {
+            evaluations.incrementAndGet();
+            return Utils.evaluateScenario(s);
+        });
+        ScenarioConfiguration scenario = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3), new Beta(Location.A, 1));
+
+        // Act
+        ScenarioResult first = cache.evaluate(scenario);
+        ScenarioResult second = cache.evaluate(ScenarioFixtures.scenario(Location.A, 2000, new Beta(Location.A, 1), new Alpha(Location.B, 3)));
+
+        // Assert
+        assertSame(first, second, "Reordered scenario should come from the cache");
+        assertEquals(1, evaluations.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(Utils.evaluateScenario(scenario).getTotalDuration(), second.getTotalDuration());
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Least Recently Used Entry Is Evicted")
+    void testLeastRecentlyUsedEvicted_TC_003() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(2);
+        ScenarioConfiguration a = ScenarioFixtures.scenario(Location.A, 1000, new Alpha(Location.A, 1));
+        ScenarioConfiguration b = ScenarioFixtures.scenario(Location.B, 1000, new Alpha(Location.B, 1));
+        ScenarioConfiguration c = ScenarioFixtures.scenario(Location.C, 1000, new Alpha(Location.C, 1));
+        cache.evaluate(a);
+        cache.evaluate(b);
+        cache.evaluate(a);
+
+        // Act
+        cache.evaluate(c);
+        cache.evaluate(a);
+        cache.evaluate(b);
+
+        // Assert
+        assertEquals(2, cache.getEvictionCount(), "b, then c should have been evicted");
+        assertEquals(2, cache.getHitCount(), "a should have stayed cached both times");
+        assertEquals(4, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Works As Executor Evaluator")
+    void testWithExecutor_TC_004() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(100);
+        List<ScenarioConfiguration> scenarios = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            scenarios.add(ScenarioFixtures.scenario(Location.values()[i % 3], 2000, new Alpha(Location.A, i % 5), new Beta(Location.B, 2)));
+        }
+
+        // Act
+        List<ScenarioOutcome> outcomes;
+        try (ScenarioExecutor executor = new ScenarioExecutor(4, cache::evaluate)) {
+            outcomes = executor.evaluateAll(scenarios);
+        }
+
+        // Assert
+        for (int i = 0; i < scenarios.size(); i++) {
+            assertEquals(Utils.evaluateScenario(scenarios.get(i)).getTotalDuration(), outcomes.get(i).getResult().getTotalDuration());
+        }
+        assertEquals(200, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getHitCount() >= 200 - 15 * 4, "Only 15 distinct scenarios, so most lookups should hit");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Scenario Fingerprint: Different Waste Or Centres Differ")
+    void testFingerprintDistinguishes_TC_001() {
+        // Arrange
+        long base = ScenarioFingerprint.of(ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3)));
+
+        // Act & Assert
+        assertNotEquals(base, ScenarioFingerprint.of(ScenarioFixtures.scenario(Location.A, 2001, new Alpha(Location.B, 3))));
+        assertNotEquals(base, ScenarioFingerprint.of(ScenarioFixtures.scenario(Location.B, 2000, new Alpha(Location.B, 3))));
+        assertNotEquals(base, ScenarioFingerprint.of(ScenarioFixtures.scenario(Location.A, 2000, new Beta(Location.B, 3))));
+        assertNotEquals(base, ScenarioFingerprint.of(ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 4))));
+        assertNotEquals(base, ScenarioFingerprint.of(ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3), new Alpha(Location.B, 3))));
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Failures Are Not Cached")
+    void testFailuresNotCached_TC_002() {
+        // Arrange
+        ScenarioCache cache = new ScenarioCache(10);
+        ScenarioConfiguration scenario = ScenarioFixtures.scenario(Location.A, 1000, new Alpha(Location.C, 1));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> cache.evaluate(scenario));
+        assertThrows(RuntimeException.class, () -> cache.evaluate(scenario));
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Different Scenarios Sharing A Fingerprint Are Misses")
+    void testFingerprintCollisionIsMiss_TC_004() {
+        // Arrange: every scenario gets the same fingerprint
+        ScenarioCache cache = new ScenarioCache(10, Utils::evaluateScenario, s -> 42L);
+        ScenarioConfiguration first = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.A, 1));
+        ScenarioConfiguration second = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 1));
+        ScenarioConfiguration reordered = ScenarioFixtures.scenario(Location.A, 2000, new Beta(Location.C, 2), new Alpha(Location.B, 1));
+
+        // Act
+        ScenarioResult firstResult = cache.evaluate(first);
+        ScenarioResult secondResult = cache.evaluate(second);
+        cache.evaluate(ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 1), new Beta(Location.C, 2)));
+        ScenarioResult reorderedResult = cache.evaluate(reordered);
+
+        // Assert
+        assertEquals(Location.A, firstResult.getOptimalCentre().getLocation());
+        assertEquals(Location.B, secondResult.getOptimalCentre().getLocation(), "The second scenario shouldn't get the first one's result");
+        assertEquals(Location.B, reorderedResult.getOptimalCentre().getLocation());
+        assertEquals(1, cache.getHitCount(), "Only the reordered repeat should be a hit");
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Report Ignores The Default Locale")
+    void testReportLocale_TC_005() {
+        // Arrange
+        Locale original = Locale.getDefault();
+        ScenarioCache cache = new ScenarioCache(1000);
+        for (int i = 0; i < 1234; i++) {
+            cache.evaluate(ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.A, 1)));
+        }
+
+        // Act
+        String report;
+        try {
+            Locale.setDefault(Locale.forLanguageTag("th-TH-u-nu-thai"));
+            report = cache.report();
+        } finally {
+            Locale.setDefault(original);
+        }
+
+        // Assert
+        assertEquals(String.format("Cache: 1233 hits, 1 misses, 0 evictions, 1/1000 entries%n"), report);
+    }
+
+    @Test
+    @DisplayName("Scenario Cache: Capacity Below One Throws Exception")
+    void testInvalidCapacity_TC_003() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioCache(0));
+    }
+}
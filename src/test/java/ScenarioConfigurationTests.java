@@ -3,11 +3,16 @@ import models.Location;
 import models.Recycling;
 import models.Beta;
 import models.Alpha;
+import models.Gamma;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,6 +97,162 @@ class ScenarioConfigurationTests {
         assertEquals(recycling2, config.getRecycling().get(1), "Second recycling item should match the second added object");
     }
 
+    @Test
+    @DisplayName("Incremental Optimal Centre: Matches Full Pipeline After Every Change")
+    void testIncrementalMatchesPipeline_TC_001() {
+        Random random = new Random(23);
+
+        for (double waste : new double[] {1000, 2000}) {
+            // Arrange
+            ScenarioConfiguration config = new ScenarioConfiguration();
+            config.setHistoric(new Historic(Location.values()[random.nextInt(3)], waste));
+
+            for (int step = 0; step < 500; step++) {
+                // Act
+                if (!config.getRecycling().isEmpty() && random.nextInt(3) == 0) {
+                    List<Recycling> current = config.getRecycling();
+                    assertTrue(config.removeRecycling(current.get(random.nextInt(current.size()))));
+                } else {
+                    Recycling.Generation generation = Recycling.Generation.values()[random.nextInt(3)];
+                    config.addRecycling(generation.newCentre(Location.values()[random.nextInt(3)], random.nextInt(5)));
+                }
+                if (step % 100 == 99) {
+                    config.setHistoric(new Historic(Location.values()[random.nextInt(3)], waste));
+                }
+
+                // Assert
+                List<Recycling> expectedViable = Utils.filterViableCentres(config.getHistoric(), config.getRecycling());
+                assertEquals(expectedViable, config.getViableCentres(), "Viable centres after step " + step);
+                if (expectedViable.isEmpty()) {
+                    assertThrows(NoSuchElementException.class, config::getOptimalCentre);
+                } else {
+                    assertSame(Utils.findOptimalCentre(config.getHistoric(), expectedViable), config.getOptimalCentre(),
+                            "Optimal centre after step " + step);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Removing The Best Picks The Next Best")
+    void testRemoveBest_TC_002() {
+        // Arrange
+        Recycling best = new Beta(Location.A, 1);
+        Recycling next = new Alpha(Location.A, 1);
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), new ArrayList<>(List.of(next, best)));
+        assertSame(best, config.getOptimalCentre());
+
+        // Act
+        config.removeRecycling(best);
+
+        // Assert
+        assertSame(next, config.getOptimalCentre());
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: External List Changes Are Picked Up")
+    void testExternalChange_TC_003() {
+        // Arrange
+        List<Recycling> centres = new ArrayList<>(List.of(new Alpha(Location.B, 5)));
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), centres);
+        config.getOptimalCentre();
+        Recycling nearer = new Alpha(Location.A, 9);
+
+        // Act
+        centres.add(nearer);
+
+        // Assert
+        assertSame(nearer, config.getOptimalCentre());
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Replacing A Centre Through The List Is Picked Up")
+    void testReplaceThroughList_TC_004() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), new ArrayList<>(List.of(new Beta(Location.B, 3))));
+        config.getOptimalCentre();
+        Recycling nearer = new Alpha(Location.A, 5);
+
+        // Act
+        config.getRecycling().set(0, nearer);
+
+        // Assert
+        assertSame(nearer, config.getOptimalCentre());
+        assertEquals(List.of(nearer), config.getViableCentres());
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Remove And Add Through The List Is Picked Up")
+    void testRemoveAndAddThroughList_TC_005() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), new ArrayList<>(List.of(new Beta(Location.B, 3))));
+        config.getOptimalCentre();
+        Recycling nearer = new Alpha(Location.A, 5);
+
+        // Act
+        config.getRecycling().remove(0);
+        config.getRecycling().add(nearer);
+
+        // Assert
+        assertSame(nearer, config.getOptimalCentre());
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Changing The Historic Site's Waste Is Picked Up")
+    void testHistoricChange_TC_006() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        Recycling gamma = new Gamma(Location.A, 1);
+        Recycling alpha = new Alpha(Location.A, 1);
+        ScenarioConfiguration config = new ScenarioConfiguration(historic, new ArrayList<>(List.of(gamma, alpha)));
+        assertSame(gamma, config.getOptimalCentre());
+
+        // Act
+        historic.setMetallic(0);
+
+        // Assert
+        assertSame(alpha, config.getOptimalCentre(), "Without metallic waste the Gamma centre is no longer viable");
+        assertEquals(List.of(alpha), config.getViableCentres());
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Viable Centres Are A Read-Only View")
+    void testViableCentresView_TC_007() {
+        // Arrange
+        Recycling beta = new Beta(Location.B, 3);
+        Recycling alpha = new Alpha(Location.A, 5);
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), new ArrayList<>(List.of(beta)));
+        List<Recycling> viable = config.getViableCentres();
+
+        // Act
+        config.addRecycling(alpha);
+
+        // Assert
+        assertSame(viable, config.getViableCentres(), "The same view should be handed out every time");
+        assertEquals(List.of(beta, alpha), viable);
+        assertThrows(UnsupportedOperationException.class, () -> viable.add(alpha));
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Changes Through The Centre List Are Picked Up")
+    void testChangesThroughList_TC_008() {
+        // Arrange
+        Recycling far = new Beta(Location.B, 3);
+        Recycling near = new Alpha(Location.A, 5);
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), new ArrayList<>(List.of(far, near)));
+        assertSame(near, config.getOptimalCentre());
+
+        // Act & Assert
+        config.getRecycling().removeIf(c -> c == near);
+        assertSame(far, config.getOptimalCentre(), "removeIf should be noticed");
+        config.getRecycling().addAll(List.of(near));
+        assertSame(near, config.getOptimalCentre(), "addAll should be noticed");
+        config.getRecycling().sort(Comparator.comparing(Recycling::getYearsActive).reversed());
+        assertEquals(List.of(near, far), config.getViableCentres(), "Sorting should be noticed");
+        Collections.swap(config.getRecycling(), 0, 1);
+        assertEquals(List.of(far, near), config.getViableCentres(), "Swapping should be noticed");
+    }
+
     // Negative Test Cases
 
     @Test
@@ -152,6 +313,30 @@ class ScenarioConfigurationTests {
         assertEquals(2, config.getRecycling().size(), "Recycling list in configuration should reflect external modifications");
     }
 
+    @Test
+    @DisplayName("Incremental Optimal Centre: No Viable Centre Throws Exception")
+    void testNoViableCentre_TC_001() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration();
+        config.setHistoric(new Historic(Location.A, 1000));
+        config.addRecycling(new Gamma(Location.A, 1));
+
+        // Act & Assert
+        assertTrue(config.getViableCentres().isEmpty());
+        assertThrows(NoSuchElementException.class, config::getOptimalCentre);
+    }
+
+    @Test
+    @DisplayName("Incremental Optimal Centre: Removing An Absent Centre Returns False")
+    void testRemoveAbsent_TC_002() {
+        // Arrange
+        ScenarioConfiguration config = new ScenarioConfiguration(new Historic(Location.A, 1000), new ArrayList<>(List.of(new Alpha(Location.A, 1))));
+
+        // Act & Assert
+        assertFalse(config.removeRecycling(new Alpha(Location.A, 1)));
+        assertEquals(1, config.getViableCentres().size());
+    }
+
     // Edge Case Test Cases
 
     @Test
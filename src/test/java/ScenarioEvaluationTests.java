@@ -0,0 +1,168 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioEvaluationTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Evaluate Scenario: Matches Step-By-Step Pipeline")
+    void testEvaluateScenarioMatchesPipeline_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        List<Recycling> centres = List.of(new Alpha(Location.A, 5), new Beta(Location.B, 3), new Gamma(Location.C, 1));
+
+        // Act
+        ScenarioResult result = Utils.evaluateScenario(new ScenarioConfiguration(historic, centres));
+        Recycling expectedCentre = Utils.findOptimalCentre(historic, Utils.findViableCentres(historic, new ArrayList<>(centres)));
+
+        // Assert
+        assertSame(expectedCentre, result.getOptimalCentre(), "Optimal centre should match the step-by-step pipeline");
+        assertEquals(2, result.getViableCentres().size(), "Gamma at C should be more than 3 hours away");
+        assertEquals(Utils.calculateTravelDuration(historic, expectedCentre), result.getTravelDuration());
+        assertEquals(Utils.calculateProcessDuration(historic, expectedCentre), result.getProcessDuration());
+        assertEquals(result.getTravelDuration() + result.getProcessDuration(), result.getTotalDuration());
+    }
+
+    @Test
+    @DisplayName("Evaluate Scenario: Repeated Evaluation Gives Same Result")
+    void testEvaluateScenarioRepeatable_TC_002() {
+        // Arrange
+        List<Recycling> centres = new ArrayList<>(List.of(new Alpha(Location.B, 5), new Gamma(Location.C, 1)));
+        ScenarioConfiguration scenario = new ScenarioConfiguration(new Historic(Location.A, 1000), centres);
+
+        // Act
+        ScenarioResult first = Utils.evaluateScenario(scenario);
+        ScenarioResult second = Utils.evaluateScenario(scenario);
+
+        // Assert
+        assertEquals(first.getTotalDuration(), second.getTotalDuration(), "Identical evaluations should give the same duration");
+        assertEquals(2, scenario.getRecycling().size(), "Candidate list should not be modified");
+        assertEquals(1000, scenario.getHistoric().getRemainingWaste(), "Historic site should not be modified");
+    }
+
+    @Test
+    @DisplayName("Evaluate Scenario: Shared Configuration Across Threads")
+    void testEvaluateScenarioConcurrently_TC_003() throws Exception {
+        // Arrange
+        List<Recycling> centres = List.of(new Alpha(Location.A, 5), new Beta(Location.B, 3), new Beta(Location.A, 3));
+        ScenarioConfiguration scenario = new ScenarioConfiguration(new Historic(Location.A, 5000), centres);
+        double expected = Utils.evaluateScenario(scenario).getTotalDuration();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            List<Future<ScenarioResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> Utils.evaluateScenario(scenario)));
+            }
+
+            // Assert
+            for (Future<ScenarioResult> future : futures) {
+                assertEquals(expected, future.get().getTotalDuration(), "Every thread should see the same result");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Evaluate Scenario: Custom Network Changes Viability And Travel")
+    void testEvaluateScenarioWithNetwork_TC_004() {
+        // Arrange
+        LocationNetwork network = new LocationNetwork(List.of("A", "B", "C"), new TravelTimeMatrix(3, new double[] {
+                1, 5, 2,
+                5, 1, 5,
+                2, 5, 1}));
+        Historic historic = new Historic(Location.A, 1000);
+        List<Recycling> centres = List.of(new Alpha(Location.B, 1), new Beta(Location.C, 5));
+
+        // Act
+        ScenarioResult result = Utils.evaluateScenario(historic, centres, network);
+
+        // Assert
+        assertEquals(1, result.getViableCentres().size(), "B is more than 3 hours away on this network");
+        assertEquals(Location.C, result.getOptimalCentre().getLocation(), "C should be the optimal centre");
+        assertEquals(100.0, result.getTravelDuration(), "50 loads at 2 hours each");
+    }
+
+    @Test
+    @DisplayName("Evaluate Scenario: Built-In Network Matches Default")
+    void testEvaluateScenarioWithBuiltInNetwork_TC_005() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 1500);
+        List<Recycling> centres = List.of(new Alpha(Location.A, 3), new Beta(Location.C, 2), new Gamma(Location.B, 9));
+
+        // Act
+        ScenarioResult expected = Utils.evaluateScenario(historic, centres);
+        ScenarioResult actual = Utils.evaluateScenario(historic, centres, LocationNetwork.builtIn());
+
+        // Assert
+        assertEquals(expected.getViableCentres(), actual.getViableCentres());
+        assertSame(expected.getOptimalCentre(), actual.getOptimalCentre());
+        assertEquals(expected.getTotalDuration(), actual.getTotalDuration());
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Filter Viable Centres: Immutable Candidate List Is Accepted")
+    void testFilterViableCentresWithImmutableList_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1000);
+        List<Recycling> centres = List.of(new Alpha(Location.C, 5), new Gamma(Location.A, 1));
+
+        // Act
+        List<Recycling> viableCentres = Utils.filterViableCentres(historic, centres);
+
+        // Assert
+        assertTrue(viableCentres.isEmpty(), "C is too far and Gamma needs metallic waste");
+        assertEquals(2, centres.size(), "Candidate list should not be modified");
+    }
+
+    @Test
+    @DisplayName("Scenario Result: Viable Centres Cannot Be Modified")
+    void testScenarioResultViableCentresUnmodifiable_TC_002() {
+        // Arrange
+        ScenarioResult result = Utils.evaluateScenario(new Historic(Location.A, 1000), List.of(new Alpha(Location.A, 5)));
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> result.getViableCentres().clear());
+    }
+
+    @Test
+    @DisplayName("Filter Viable Centres: Location Missing From Network Throws Exception")
+    void testFilterViableCentresWithMissingLocation_TC_003() {
+        // Arrange
+        LocationNetwork network = new LocationNetwork(List.of("A", "B"), new TravelTimeMatrix(2, new double[] {1, 2, 2, 1}));
+        Historic historic = new Historic(Location.A, 1000);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> Utils.filterViableCentres(historic, List.of(new Alpha(Location.C, 5)), network));
+    }
+
+    @Test
+    @DisplayName("Scenario Result: Changing The Caller's List Leaves The Result Unchanged")
+    void testScenarioResultCopiesViableCentres_TC_004() {
+        // Arrange
+        Recycling alpha = new Alpha(Location.A, 5);
+        List<Recycling> viableCentres = new ArrayList<>(List.of(alpha));
+        ScenarioResult result = new ScenarioResult(viableCentres, alpha, 1.0, 2.0);
+
+        // Act
+        viableCentres.add(new Beta(Location.B, 3));
+
+        // Assert
+        assertEquals(List.of(alpha), result.getViableCentres(), "The result should keep its own copy of the viable centres");
+    }
+}
@@ -0,0 +1,92 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioEventsTests {
+
+    private static final List<String> EVENT_NAMES = List.of(
+            "landfilllabs.ScenarioEvaluation",
+            "landfilllabs.ViabilityFilter",
+            "landfilllabs.OptimalSelection",
+            "landfilllabs.TripPlanning");
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Scenario Events: Each Stage Emits An Event With Its Inputs")
+    void testScenarioEventsRecorded_TC_001(@TempDir Path directory) throws IOException {
+        // Arrange
+        List<Recycling> centres = List.of(new Alpha(Location.A, 5), new Beta(Location.B, 3), new Gamma(Location.C, 1));
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable(name).withoutThreshold());
+            recording.start();
+
+            // Act
+            Utils.evaluateScenario(new Historic(Location.A, 2000), centres);
+
+            recording.stop();
+            Path file = directory.resolve("scenario.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // Assert
+        RecordedEvent evaluation = find(events, "landfilllabs.ScenarioEvaluation");
+        assertEquals("A", evaluation.getString("historicLocation"));
+        assertEquals(2000.0, evaluation.getDouble("initialWaste"));
+        assertEquals(3, evaluation.getInt("candidateCount"));
+        assertEquals(2, evaluation.getInt("viableCount"));
+        assertEquals("Alpha", evaluation.getString("chosenGeneration"));
+        assertFalse(evaluation.getBoolean("failed"));
+
+        assertEquals(2, find(events, "landfilllabs.ViabilityFilter").getInt("viableCount"));
+        assertEquals("A", find(events, "landfilllabs.OptimalSelection").getString("chosenLocation"));
+        assertEquals(100, find(events, "landfilllabs.TripPlanning").getLong("trips"));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Scenario Events: Failed Scenario Marked As Failed")
+    void testFailedScenarioEvent_TC_001(@TempDir Path directory) throws IOException {
+        // Arrange
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable("landfilllabs.ScenarioEvaluation").withoutThreshold();
+            recording.start();
+
+            // Act
+            assertThrows(RuntimeException.class, () -> Utils.evaluateScenario(new Historic(Location.B, 2000), List.of()));
+
+            recording.stop();
+            Path file = directory.resolve("failed.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // Assert
+        RecordedEvent evaluation = find(events, "landfilllabs.ScenarioEvaluation");
+        assertTrue(evaluation.getBoolean("failed"));
+        assertEquals("B", evaluation.getString("historicLocation"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded"));
+    }
+}
@@ -0,0 +1,97 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioExecutorTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Scenario Executor: Results Kept In Input Order")
+    void testEvaluateAllKeepsOrder_TC_001() {
+        // Arrange
+        List<Recycling> centres = List.of(new Alpha(Location.A, 5), new Beta(Location.B, 3), new Gamma(Location.C, 1));
+        List<ScenarioConfiguration> scenarios = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            scenarios.add(new ScenarioConfiguration(new Historic(Location.values()[i % 3], 20 + i * 10), centres));
+        }
+
+        try (ScenarioExecutor executor = new ScenarioExecutor(4)) {
+            // Act
+            List<ScenarioOutcome> outcomes = executor.evaluateAll(scenarios);
+
+            // Assert
+            assertEquals(scenarios.size(), outcomes.size());
+            for (int i = 0; i < scenarios.size(); i++) {
+                ScenarioResult expected = Utils.evaluateScenario(scenarios.get(i));
+                assertTrue(outcomes.get(i).isSuccess());
+                assertEquals(expected.getTotalDuration(), outcomes.get(i).getResult().getTotalDuration(), "Outcome " + i + " should match its scenario");
+                assertSame(expected.getOptimalCentre(), outcomes.get(i).getResult().getOptimalCentre());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Executor: Parallel Batch Matches Sequential Batch")
+    void testParallelBatchMatchesSequential_TC_002() throws IOException {
+        // Arrange
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < BatchRunner.LINES_PER_CHUNK + 100; i++) {
+            input.append("s").append(i).append(',').append("ABC".charAt(i % 3)).append(',').append(20 + i).append(",A:Alpha:3;B:Beta:1;C:Gamma:").append(i % 5).append('\n');
+            if (i % 1000 == 0) {
+                input.append("broken-").append(i).append(",Z,100,\n");
+            }
+        }
+        StringWriter sequential = new StringWriter();
+        StringWriter parallel = new StringWriter();
+
+        // Act
+        BatchRunner.run(new BufferedReader(new StringReader(input.toString())), sequential);
+        try (ScenarioExecutor executor = new ScenarioExecutor(4)) {
+            BatchRunner.run(new BufferedReader(new StringReader(input.toString())), parallel, executor);
+        }
+
+        // Assert
+        assertEquals(sequential.toString(), parallel.toString(), "Parallel batch output should match the sequential batch");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Scenario Executor: Failures Are Per Scenario")
+    void testEvaluateAllFailsPerScenario_TC_001() {
+        // Arrange
+        List<ScenarioConfiguration> scenarios = List.of(
+                new ScenarioConfiguration(new Historic(Location.A, 2000), List.of(new Alpha(Location.A, 1))),
+                new ScenarioConfiguration(new Historic(Location.A, 2000), List.of()),
+                new ScenarioConfiguration(new Historic(Location.B, 2000), List.of(new Beta(Location.B, 1))));
+
+        try (ScenarioExecutor executor = new ScenarioExecutor(2)) {
+            // Act
+            List<ScenarioOutcome> outcomes = executor.evaluateAll(scenarios);
+
+            // Assert
+            assertTrue(outcomes.get(0).isSuccess());
+            assertFalse(outcomes.get(1).isSuccess(), "A scenario without centres should fail");
+            assertNotNull(outcomes.get(1).getError());
+            assertThrows(java.util.NoSuchElementException.class, () -> outcomes.get(1).getResult());
+            assertTrue(outcomes.get(2).isSuccess(), "Later scenarios should still be evaluated");
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Executor: Parallelism Must Be Positive")
+    void testConstructorWithZeroParallelism_TC_002() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioExecutor(0));
+    }
+}
@@ -0,0 +1,118 @@
+import models.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Centres, scenarios and checks shared by the selection, registry, cache and store tests.
+final class ScenarioFixtures {
+
+    private ScenarioFixtures() {
+    }
+
+    // One implementation of the viability and optimal-centre rules over a set of centres.
+    interface CentreSelection {
+        List<Recycling> findViableCentres(Historic historic);
+
+        // Throws NoSuchElementException in the same cases as Utils.findOptimalCentre.
+        Recycling findOptimalCentre(Historic historic);
+
+        static CentreSelection of(Function<Historic, List<Recycling>> viable, Function<Historic, Recycling> optimal) {
+            return new CentreSelection() {
+                @Override
+                public List<Recycling> findViableCentres(Historic historic) {
+                    return viable.apply(historic);
+                }
+
+                @Override
+                public Recycling findOptimalCentre(Historic historic) {
+                    return optimal.apply(historic);
+                }
+            };
+        }
+    }
+
+    static ScenarioConfiguration scenario(Location location, double waste, Recycling... centres) {
+        return new ScenarioConfiguration(new Historic(location, waste), new ArrayList<>(List.of(centres)));
+    }
+
+    // A centre whose generation isn't a Recycling.Generation. It can be viable, but is never chosen as the optimal centre.
+    static Recycling unknownCentre(Location location, int yearsActive) {
+        return new Recycling(location, yearsActive) {
+            @Override
+            public String getGeneration() {
+                return "Custom";
+            }
+
+            @Override
+            public List<Double> getRates() {
+                return List.of(1.0, 1.0, 1.0);
+            }
+        };
+    }
+
+    // Centres at random locations, active for 0 to 5 years, each of an unknown generation with the given probability
+    // and otherwise of a random known generation.
+    static List<Recycling> randomCentres(Random random, int count, double unknownShare) {
+        List<Recycling> centres = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Location location = Location.values()[random.nextInt(Location.values().length)];
+            int yearsActive = random.nextInt(6);
+            if (random.nextDouble() < unknownShare) {
+                centres.add(unknownCentre(location, yearsActive));
+            } else {
+                Recycling.Generation generation = Recycling.Generation.values()[random.nextInt(Recycling.Generation.values().length)];
+                centres.add(generation.newCentre(location, yearsActive));
+            }
+        }
+        return centres;
+    }
+
+    // The centre the selection picks, or null when it finds none and throws NoSuchElementException.
+    static Recycling optimalOrNull(Supplier<Recycling> selection) {
+        try {
+            return selection.get();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    // Builds the selection over random centres, a fifth of them of an unknown generation, once for each count, and
+    // checks it against Utils.filterViableCentres and the three-stage selection (nearest, least active, highest
+    // generation, first survivor) from every location, with and without metallic waste.
+    static void assertMatchesUtils(Random random, int[] counts, Function<List<Recycling>, CentreSelection> build) {
+        int unknownWinners = 0;
+
+        for (int count : counts) {
+            List<Recycling> centres = randomCentres(random, count, 0.2);
+            CentreSelection selection = build.apply(centres);
+
+            for (Location location : Location.values()) {
+                for (double waste : new double[] {1000, 2000}) {
+                    Historic historic = new Historic(location, waste);
+                    String scenario = count + " centres from " + location + " with " + waste + " m3";
+
+                    List<Recycling> expectedViable = Utils.filterViableCentres(historic, centres);
+                    assertEquals(expectedViable, selection.findViableCentres(historic), "Viable centres for " + scenario);
+
+                    Recycling expectedOptimal = optimalOrNull(() -> Utils.findHighestGenerations(
+                            Utils.findLeastYearsActive(Utils.findNearestCentres(historic, expectedViable))).getFirst());
+                    if (expectedOptimal == null) {
+                        assertThrows(NoSuchElementException.class, () -> selection.findOptimalCentre(historic),
+                                "No optimal centre for " + scenario);
+                        unknownWinners += expectedViable.isEmpty() ? 0 : 1;
+                    } else {
+                        assertSame(expectedOptimal, selection.findOptimalCentre(historic), "Optimal centre for " + scenario);
+                    }
+                }
+            }
+        }
+
+        assertTrue(unknownWinners > 0, "Some scenarios should leave only unknown-generation centres to choose from");
+    }
+}
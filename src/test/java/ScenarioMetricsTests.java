@@ -0,0 +1,96 @@
+import models.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioMetricsTests {
+
+    @BeforeEach
+    void setUp() {
+        ScenarioMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ScenarioMetrics.setEnabled(false);
+        ScenarioMetrics.reset();
+    }
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Scenario Metrics: Stages And Counters Recorded When Enabled")
+    void testMetricsRecordedWhenEnabled_TC_001() {
+        // Arrange
+        ScenarioMetrics.setEnabled(true);
+        List<Recycling> centres = List.of(new Alpha(Location.A, 5), new Beta(Location.B, 3), new Gamma(Location.C, 1));
+
+        // Act
+        Utils.evaluateScenario(new Historic(Location.A, 2000), centres);
+        Utils.evaluateScenario(new Historic(Location.B, 1000), centres);
+
+        // Assert
+        assertEquals(2, ScenarioMetrics.getScenarios());
+        assertEquals(6, ScenarioMetrics.getCandidatesIn(), "Both scenarios had three candidates");
+        assertEquals(4, ScenarioMetrics.getViableOut(), "Two centres are viable in each scenario");
+        assertEquals(150, ScenarioMetrics.getTransports(), "2000 m3 needs 100 loads and 1000 m3 needs 50");
+        for (ScenarioMetrics.Stage stage : ScenarioMetrics.Stage.values()) {
+            assertEquals(2, ScenarioMetrics.getStageLatency(stage).getCount(), stage + " should be timed once per scenario");
+        }
+        assertTrue(ScenarioMetrics.report().contains("VIABLE"));
+    }
+
+    @Test
+    @DisplayName("Latency Histogram: Percentiles Fall In The Right Bucket")
+    void testLatencyHistogramPercentiles_TC_002() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);
+        }
+        histogram.record(1_000_000);
+
+        // Assert
+        assertEquals(100, histogram.getCount());
+        assertEquals(1_024, histogram.getPercentileNanos(50), "1000 ns lies in the bucket below 1024 ns");
+        assertEquals(1_000_000, histogram.getPercentileNanos(100), "The top percentile should be capped at the maximum");
+        assertEquals(1_000_000, histogram.getMaxNanos());
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Scenario Metrics: Nothing Recorded When Disabled")
+    void testMetricsNotRecordedWhenDisabled_TC_001() {
+        // Arrange
+        ScenarioMetrics.setEnabled(false);
+
+        // Act
+        Utils.evaluateScenario(new Historic(Location.A, 2000), List.of(new Alpha(Location.A, 5)));
+
+        // Assert
+        assertEquals(0, ScenarioMetrics.getScenarios());
+        assertEquals(0, ScenarioMetrics.getStageLatency(ScenarioMetrics.Stage.VIABLE).getCount());
+    }
+
+    @Test
+    @DisplayName("Scenario Metrics: Failed Scenarios Counted")
+    void testMetricsCountFailures_TC_002() {
+        // Arrange
+        ScenarioMetrics.setEnabled(true);
+
+        // Act
+        assertThrows(RuntimeException.class, () -> Utils.evaluateScenario(new Historic(Location.A, 2000), List.of()));
+
+        // Assert
+        assertEquals(1, ScenarioMetrics.getFailedScenarios());
+        assertEquals(0, ScenarioMetrics.getScenarios());
+    }
+}
@@ -0,0 +1,268 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScenarioResultStoreTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Scenario Result Store: Results Survive Reopening")
+    void testSurvivesReopen_TC_001(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        ScenarioConfiguration scenario = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3), new Gamma(Location.A, 1), new Beta(Location.C, 2));
+        ScenarioResult expected = Utils.evaluateScenario(scenario);
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.evaluate(scenario);
+        }
+
+        // Act
+        ScenarioResult stored;
+        AtomicInteger evaluations = new AtomicInteger();
+        try (ScenarioResultStore store = ScenarioResultStore.open(file, s -> {
+            evaluations.incrementAndGet();
+            return Utils.evaluateScenario(s);
+        })) {
+            stored = store.evaluate(ScenarioFixtures.scenario(Location.A, 2000, new Beta(Location.C, 2), new Gamma(Location.A, 1), new Alpha(Location.B, 3)));
+            assertEquals(1, store.getHitCount());
+            assertEquals(1, store.size());
+        }
+
+        // Assert
+        assertEquals(0, evaluations.get(), "Stored result should be reused after reopening");
+        assertEquals(expected.getTravelDuration(), stored.getTravelDuration());
+        assertEquals(expected.getProcessDuration(), stored.getProcessDuration());
+        assertEquals(expected.getOptimalCentre().getLocation(), stored.getOptimalCentre().getLocation());
+        assertEquals(expected.getOptimalCentre().getGeneration(), stored.getOptimalCentre().getGeneration());
+        assertEquals(expected.getOptimalCentre().getYearsActive(), stored.getOptimalCentre().getYearsActive());
+        assertEquals(expected.getViableCentres().size(), stored.getViableCentres().size());
+        for (int i = 0; i < expected.getViableCentres().size(); i++) {
+            assertEquals(expected.getViableCentres().get(i).getGeneration(), stored.getViableCentres().get(i).getGeneration());
+            assertEquals(expected.getViableCentres().get(i).getLocation(), stored.getViableCentres().get(i).getLocation());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Many Results Are Indexed")
+    void testManyResults_TC_002(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        List<ScenarioConfiguration> scenarios = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            scenarios.add(ScenarioFixtures.scenario(Location.values()[i % 3], 1000 + i, new Alpha(Location.A, i % 7), new Beta(Location.B, 1)));
+        }
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            for (ScenarioConfiguration scenario : scenarios) {
+                store.evaluate(scenario);
+            }
+        }
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(3000, store.size());
+            for (ScenarioConfiguration scenario : scenarios) {
+                assertEquals(Utils.evaluateScenario(scenario).getTotalDuration(), store.get(scenario).getTotalDuration());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Results On A Loaded Network")
+    void testLoadedNetwork_TC_003(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        LocationNetwork network = new LocationNetwork(List.of("Depot", "North"), new TravelTimeMatrix(2, new double[] {0.5, 2, 2, 0.5}));
+        ScenarioConfiguration scenario = new ScenarioConfiguration(new Historic(network, "Depot", 2000),
+                List.of(new Beta(network, "North", 4), new Alpha(network, "Depot", 9)), network);
+        ScenarioResult expected = Utils.evaluateScenario(scenario);
+        try (ScenarioResultStore store = ScenarioResultStore.open(file, network)) {
+            store.evaluate(scenario);
+            store.evaluate(ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.A, 1)));
+            assertEquals(1, store.size(), "Scenarios on another network shouldn't be stored");
+        }
+
+        // Act
+        ScenarioResult stored;
+        try (ScenarioResultStore store = ScenarioResultStore.open(file, network)) {
+            stored = store.get(scenario);
+        }
+
+        // Assert
+        assertNotNull(stored);
+        assertEquals(expected.getTotalDuration(), stored.getTotalDuration());
+        assertEquals("Depot", stored.getOptimalCentre().getLocationName());
+        assertEquals(List.of("North", "Depot"), stored.getViableCentres().stream().map(Recycling::getLocationName).toList());
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(0, store.size(), "The built-in network has other rules");
+        }
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Scenario Result Store: Changed Rules Discard Stored Results")
+    void testChangedRulesDiscard_TC_001(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        ScenarioConfiguration scenario = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3));
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.evaluate(scenario);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(ScenarioResultStore.rulesStamp() + 1).flip(), 8);
+        }
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(0, store.size(), "Results from other rules should be thrown away");
+            assertNull(store.get(scenario));
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Partly Written Record Is Dropped")
+    void testPartialRecordDropped_TC_002(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        ScenarioConfiguration first = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3));
+        ScenarioConfiguration second = ScenarioFixtures.scenario(Location.B, 2000, new Alpha(Location.B, 3), new Beta(Location.A, 2));
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.evaluate(first);
+            store.evaluate(second);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(1, store.size());
+            assertNotNull(store.get(first));
+            assertNull(store.get(second));
+            store.evaluate(second);
+        }
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(2, store.size(), "A result written after the dropped record should be readable");
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Unknown Generation Results Are Not Stored")
+    void testUnknownGenerationNotStored_TC_003(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Recycling custom = ScenarioFixtures.unknownCentre(Location.A, 1);
+        ScenarioConfiguration scenario = ScenarioFixtures.scenario(Location.A, 2000, custom, new Alpha(Location.A, 1));
+        ScenarioResult result = Utils.evaluateScenario(scenario);
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(tempDir.resolve("results.llrs"))) {
+            assertFalse(store.put(scenario, result));
+            assertNull(store.get(scenario));
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Damaged Record And Everything After It Are Dropped")
+    void testDamagedRecordDropped_TC_005(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        ScenarioConfiguration first = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3));
+        ScenarioConfiguration second = ScenarioFixtures.scenario(Location.B, 2000, new Beta(Location.B, 1));
+        ScenarioConfiguration third = ScenarioFixtures.scenario(Location.C, 2000, new Gamma(Location.C, 2));
+        long firstEnd;
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.evaluate(first);
+            firstEnd = Files.size(file);
+            store.evaluate(second);
+            store.evaluate(third);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer travelDuration = ByteBuffer.allocate(1);
+            channel.read(travelDuration, firstEnd + 10);
+            channel.write(travelDuration.put(0, (byte) (travelDuration.get(0) ^ 1)).rewind(), firstEnd + 10);
+        }
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(1, store.size());
+            assertNotNull(store.get(first));
+            assertNull(store.get(second), "The damaged record should be dropped");
+            assertNull(store.get(third), "Records after the damaged one should be dropped");
+        }
+        assertEquals(firstEnd, Files.size(file), "The file should be cut back to the last intact record");
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Out Of Range Centre Is Not Read Back")
+    void testOutOfRangeCentre_TC_006(@TempDir Path tempDir) throws Exception {
+        // Arrange: a record with an impossible generation and a checksum to match
+        Path file = tempDir.resolve("results.llrs");
+        ScenarioConfiguration scenario = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 3));
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.evaluate(scenario);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer record = ByteBuffer.allocate((int) channel.size() - 16).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(record, 16);
+            record.put(36, (byte) 7);
+            CRC32C crc = new CRC32C();
+            crc.update(record.array(), 0, record.capacity() - 4);
+            record.putInt(record.capacity() - 4, (int) crc.getValue());
+            channel.write(record.rewind(), 16);
+        }
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(1, store.size());
+            assertNull(store.get(scenario));
+            assertEquals(Utils.evaluateScenario(scenario).getTotalDuration(), store.evaluate(scenario).getTotalDuration());
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Scenarios Sharing A Fingerprint Don't Share Results")
+    void testFingerprintCollision_TC_007(@TempDir Path tempDir) throws Exception {
+        // Arrange: every scenario gets the same fingerprint
+        Path file = tempDir.resolve("results.llrs");
+        ScenarioConfiguration first = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.A, 1));
+        ScenarioConfiguration second = ScenarioFixtures.scenario(Location.A, 2000, new Alpha(Location.B, 1));
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file, LocationNetwork.builtIn(), Utils::evaluateScenario, s -> 42L)) {
+            store.evaluate(first);
+            ScenarioResult result = store.evaluate(second);
+            assertEquals(Location.B, result.getOptimalCentre().getLocation(), "The second scenario shouldn't get the first one's result");
+            assertEquals(0, store.getHitCount());
+            assertNull(store.get(second));
+            assertNotNull(store.get(first));
+        }
+    }
+
+    @Test
+    @DisplayName("Scenario Result Store: Other Files Are Replaced")
+    void testOtherFileReplaced_TC_004(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("results.llrs");
+        Files.writeString(file, "not a result store");
+
+        // Act & Assert
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            assertEquals(0, store.size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopCentresTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Find Top Centres: Matches Repeated Optimal Selection")
+    void testFindTopCentresMatchesRepeatedSelection_TC_001() {
+        Random random = new Random(7);
+
+        for (int scenario = 0; scenario < 200; scenario++) {
+            // Arrange
+            Historic historic = new Historic(Location.values()[random.nextInt(3)], 2000);
+            List<Recycling> centres = new ArrayList<>();
+            for (int i = 0, count = 1 + random.nextInt(15); i < count; i++) {
+                Location location = Location.values()[random.nextInt(3)];
+                int yearsActive = random.nextInt(4);
+                int generation = random.nextInt(3);
+                centres.add(generation == 0 ? new Alpha(location, yearsActive) : generation == 1 ? new Beta(location, yearsActive) : new Gamma(location, yearsActive));
+            }
+            int k = 1 + random.nextInt(5);
+
+            // Act
+            List<RankedCentre> top = Utils.findTopCentres(historic, centres, k);
+
+            // Assert
+            List<Recycling> remaining = new ArrayList<>(centres);
+            assertEquals(Math.min(k, centres.size()), top.size(), "Should return k centres, or all of them if fewer");
+            for (RankedCentre ranked : top) {
+                Recycling expected = Utils.findOptimalCentre(historic, remaining);
+                assertSame(expected, ranked.getCentre(), "Rank " + ranked.getRank() + " should match repeated optimal selection");
+                remaining.remove(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Find Top Centres: Durations Reported Per Centre")
+    void testFindTopCentresDurations_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+        List<Recycling> centres = List.of(new Alpha(Location.B, 1), new Gamma(Location.A, 9), new Beta(Location.A, 9));
+
+        // Act
+        List<RankedCentre> top = Utils.findTopCentres(historic, centres, 3);
+
+        // Assert
+        assertEquals("Gamma", top.get(0).getCentre().getGeneration(), "Gamma at A should be ranked first");
+        assertEquals("Beta", top.get(1).getCentre().getGeneration(), "Beta at A should be ranked second");
+        assertEquals(Location.B, top.get(2).getCentre().getLocation(), "Alpha at B should be ranked last");
+        for (RankedCentre ranked : top) {
+            assertEquals(Utils.calculateTravelDuration(historic, ranked.getCentre()), ranked.getTravelDuration());
+            assertEquals(Utils.calculateProcessDuration(historic, ranked.getCentre()), ranked.getProcessDuration());
+        }
+        assertEquals(1, top.get(0).getRank());
+        assertEquals(3, top.get(2).getRank());
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Find Top Centres: Non-Positive K Throws Exception")
+    void testFindTopCentresWithZeroK_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Utils.findTopCentres(historic, List.of(new Alpha(Location.A, 1)), 0));
+    }
+
+    @Test
+    @DisplayName("Find Top Centres: Empty List Gives No Centres")
+    void testFindTopCentresWithEmptyList_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+
+        // Act
+        List<RankedCentre> top = Utils.findTopCentres(historic, new ArrayList<>(), 3);
+
+        // Assert
+        assertTrue(top.isEmpty(), "No centres should be ranked from an empty list");
+    }
+}
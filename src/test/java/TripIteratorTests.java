@@ -0,0 +1,89 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripIteratorTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Trip Iterator: Loads Match Trip Plan")
+    void testTripIteratorMatchesPlan_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 1500);
+        Recycling centre = new Alpha(Location.B, 5);
+
+        // Act
+        long loads = 0;
+        double metallic = 0.0;
+        double plasticGlass = 0.0;
+        double paper = 0.0;
+        Iterator<Transport> trips = Utils.tripIterator(historic, centre);
+        while (trips.hasNext()) {
+            Transport load = trips.next();
+            metallic += load.getMetallicWaste();
+            plasticGlass += load.getPlasticGlassWaste();
+            paper += load.getPaperWaste();
+            loads++;
+        }
+
+        // Assert
+        assertEquals(Utils.planTrips(historic, centre).getTotalTrips(), loads, "Iterated loads should match the trip plan");
+        assertEquals(historic.getMetallic(), metallic, 1e-6, "Iterated loads should carry all metallic waste");
+        assertEquals(historic.getPlasticGlass(), plasticGlass, 1e-6, "Iterated loads should carry all plastic/glass waste");
+        assertEquals(historic.getPaper(), paper, 1e-6, "Iterated loads should carry all paper waste");
+    }
+
+    @Test
+    @DisplayName("Trip Iterator: Loads Carry All Waste In Fill Order")
+    void testTripIteratorCarriesAllWaste_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.B, 2010);
+        Recycling centre = new Gamma(Location.C, 5);
+
+        // Act
+        double metallic = Utils.streamTrips(historic, centre).mapToDouble(Transport::getMetallicWaste).sum();
+        double plasticGlass = Utils.streamTrips(historic, centre).mapToDouble(Transport::getPlasticGlassWaste).sum();
+        double paper = Utils.streamTrips(historic, centre).mapToDouble(Transport::getPaperWaste).sum();
+        Transport first = Utils.streamTrips(historic, centre).findFirst().orElseThrow();
+
+        // Assert
+        assertEquals(historic.getMetallic(), metallic, 1e-6, "All metallic waste should be carried");
+        assertEquals(historic.getPlasticGlass(), plasticGlass, 1e-6, "All plastic/glass waste should be carried");
+        assertEquals(historic.getPaper(), paper, 1e-6, "All paper waste should be carried");
+        assertEquals(20.0, first.getMetallicWaste(), "Metallic waste should be loaded first");
+    }
+
+    @Test
+    @DisplayName("Trip Iterator: Large Site Streams Without Materialising Loads")
+    void testTripIteratorLargeSite_TC_003() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 10_000_000);
+        Recycling centre = new Beta(Location.A, 5);
+
+        // Act
+        double travelTime = Utils.streamTrips(historic, centre).mapToDouble(Transport::getTravelTime).sum();
+
+        // Assert
+        assertEquals(500_000.0, travelTime, 1e-6, "Each of the 500,000 loads should take 1 hour");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Trip Iterator: Next After Last Load Throws Exception")
+    void testTripIteratorExhausted_TC_001() {
+        // Arrange
+        Iterator<Transport> trips = Utils.tripIterator(new Historic(Location.A, 20), new Alpha(Location.A, 5));
+        trips.next();
+
+        // Act & Assert
+        assertFalse(trips.hasNext(), "A 20 m3 site should need exactly one load");
+        assertThrows(NoSuchElementException.class, trips::next);
+    }
+}
@@ -0,0 +1,93 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripPlanTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Plan Trips: Trips Per Material Above Metallic Threshold")
+    void testPlanTripsPerMaterial_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+
+        // Act
+        TripPlan plan = Utils.planTrips(historic, new Alpha(Location.B, 5));
+
+        // Assert
+        assertEquals(20, plan.getMetallicTrips(), "400 m3 of metallic waste should need 20 loads");
+        assertEquals(30, plan.getPlasticGlassTrips(), "600 m3 of plastic/glass waste should need 30 loads");
+        assertEquals(50, plan.getPaperTrips(), "1000 m3 of paper waste should need 50 loads");
+        assertEquals(100, plan.getTotalTrips(), "2000 m3 of waste should need 100 loads");
+        assertEquals(200.0, plan.getTravelDuration(), "Each A to B trip should take 2 hours");
+    }
+
+    @Test
+    @DisplayName("Plan Trips: Shared Load When Last Load Comes Up Short")
+    void testPlanTripsSharedLoad_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 30);
+
+        // Act
+        TripPlan plan = Utils.planTrips(historic, new Alpha(Location.A, 5));
+
+        // Assert
+        assertEquals(1, plan.getPlasticGlassTrips(), "15 m3 of plastic/glass should fit in one load");
+        assertEquals(2, plan.getPaperTrips(), "Paper should top up the first load and fill the second");
+        assertEquals(2, plan.getTotalTrips(), "30 m3 of waste should need 2 loads");
+    }
+
+    @Test
+    @DisplayName("Calculate Travel Duration: Analytic Matches Trace")
+    void testAnalyticMatchesTrace_TC_003() {
+        double[] wasteQuantities = {20, 30, 50, 200, 1234.5, 1500, 2000, 5000, 12345.6};
+
+        for (double waste : wasteQuantities) {
+            for (Location historicLocation : Location.values()) {
+                for (Location centreLocation : Location.values()) {
+                    // Arrange
+                    Recycling centre = new Beta(centreLocation, 5);
+
+                    // Act
+                    double analytic = Utils.calculateTravelDuration(new Historic(historicLocation, waste), centre, Utils.TravelMode.ANALYTIC);
+                    double trace = Utils.calculateTravelDuration(new Historic(historicLocation, waste), centre, Utils.TravelMode.TRACE);
+
+                    // Assert
+                    assertEquals(trace, analytic, 1e-9, "Analytic and trace durations should agree for " + waste + " m3 from " + historicLocation + " to " + centreLocation);
+                }
+            }
+        }
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Calculate Travel Duration: Analytic Does Not Modify Historic")
+    void testAnalyticLeavesHistoricUnchanged_TC_001() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2000);
+
+        // Act
+        Utils.calculateTravelDuration(historic, new Alpha(Location.B, 5), Utils.TravelMode.ANALYTIC);
+
+        // Assert
+        assertEquals(2000, historic.getRemainingWaste(), "Remaining waste should be left untouched");
+    }
+
+    @Test
+    @DisplayName("Plan Trips: No Waste Needs No Trips")
+    void testPlanTripsWithNoWaste_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 0);
+
+        // Act
+        TripPlan plan = Utils.planTrips(historic, new Alpha(Location.B, 5));
+
+        // Assert
+        assertEquals(0, plan.getTotalTrips(), "No trips should be needed without waste");
+        assertEquals(0.0, plan.getTravelDuration(), "Travel duration should be 0 without waste");
+    }
+}
@@ -0,0 +1,150 @@
+import models.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripSimulationTests {
+
+    // Makespan by the recurrence: load k arrives at (k + 1) * T and starts once both it and the previous load are ready.
+    private static double expectedMakespan(TripSimulation simulation, double travelTimePerTrip) {
+        double finished = 0.0;
+        for (long load = 0; load < simulation.getLoads(); load++) {
+            finished = Math.max(finished, (load + 1) * travelTimePerTrip) + simulation.processingTime(load);
+        }
+        return finished;
+    }
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Trip Simulation: Makespan Matches Recurrence")
+    void testMakespanMatchesRecurrence_TC_001() {
+        for (double waste : new double[] {20, 35, 1000, 1250, 2000, 12345.6}) {
+            for (Location historicLocation : Location.values()) {
+                for (Recycling.Generation generation : Recycling.Generation.values()) {
+                    // Arrange
+                    Historic historic = new Historic(historicLocation, waste);
+                    Recycling centre = generation.newCentre(Location.B, 3);
+                    TripSimulation simulation = new TripSimulation();
+
+                    // Act
+                    double makespan = simulation.run(historic, centre);
+
+                    // Assert
+                    double travelTimePerTrip = TravelTimeMatrix.TRANSPORT.travelTime(historicLocation, Location.B);
+                    assertEquals(expectedMakespan(simulation, travelTimePerTrip), makespan, 1e-9,
+                            waste + " m3 from " + historicLocation + " to a " + generation + " centre");
+                    assertEquals(Utils.planTrips(historic, centre).getTotalTrips(), simulation.getLoads());
+                    assertEquals(3 * simulation.getLoads(), simulation.getEventCount(), "Each load departs, arrives and is processed");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Trip Simulation: Per-Load Processing Adds Up To Process Duration")
+    void testProcessingAddsUp_TC_002() {
+        // Arrange
+        Historic historic = new Historic(Location.A, 2345);
+        Recycling centre = new Gamma(Location.A, 1);
+        TripSimulation simulation = new TripSimulation();
+        simulation.run(historic, centre);
+
+        // Act
+        double total = 0.0;
+        for (long load = 0; load < simulation.getLoads(); load++) {
+            total += simulation.processingTime(load);
+        }
+
+        // Assert
+        assertEquals(Utils.calculateProcessDuration(historic, centre), total, 1e-6);
+    }
+
+    @Test
+    @DisplayName("Trip Simulation: Overlap Never Exceeds Sequential Duration")
+    void testOverlapBounds_TC_003() {
+        Random random = new Random(24);
+
+        for (int i = 0; i < 200; i++) {
+            // Arrange
+            Historic historic = new Historic(Location.values()[random.nextInt(3)], 20 + random.nextDouble() * 5000);
+            Recycling centre = Recycling.Generation.values()[random.nextInt(3)].newCentre(Location.values()[random.nextInt(3)], 1);
+            double travel = Utils.calculateTravelDuration(historic, centre);
+            double process = Utils.calculateProcessDuration(historic, centre);
+
+            // Act
+            double makespan = Utils.calculateMakespan(historic, centre);
+
+            // Assert
+            assertTrue(makespan <= travel + process + 1e-6, "Overlapping can only help");
+            assertTrue(makespan >= Math.max(travel, process) - 1e-6, "Every load must arrive and be processed");
+        }
+    }
+
+    @Test
+    @DisplayName("Trip Simulation: Reused Instance Gives Same Result")
+    void testReuse_TC_004() {
+        // Arrange
+        TripSimulation simulation = new TripSimulation();
+        Historic large = new Historic(Location.A, 5000);
+        Historic small = new Historic(Location.C, 100);
+        Recycling centre = new Beta(Location.B, 2);
+
+        // Act
+        double first = simulation.run(small, centre);
+        simulation.run(large, centre);
+        double again = simulation.run(small, centre);
+
+        // Assert
+        assertEquals(first, again);
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Trip Simulation: No Waste Has Zero Makespan")
+    void testNoWaste_TC_001() {
+        // Arrange
+        TripSimulation simulation = new TripSimulation();
+
+        // Act
+        double makespan = simulation.run(new Historic(Location.A, 0), new Alpha(Location.B, 1));
+
+        // Assert
+        assertEquals(0.0, makespan);
+        assertEquals(0, simulation.getLoads());
+        assertEquals(0, simulation.getEventCount());
+    }
+
+    @Test
+    @DisplayName("Event Calendar: Events Come Out In Time Then Type Then Load Order")
+    void testCalendarOrder_TC_002() {
+        // Arrange
+        EventCalendar calendar = new EventCalendar();
+        calendar.schedule(5.0, TripSimulation.DEPART, 1);
+        calendar.schedule(2.0, TripSimulation.ARRIVE, 7);
+        calendar.schedule(5.0, TripSimulation.PROCESS_COMPLETE, 3);
+        calendar.schedule(2.0, TripSimulation.ARRIVE, 4);
+        for (int i = 0; i < 40; i++) {
+            calendar.schedule(10.0 + i, TripSimulation.DEPART, i);
+        }
+
+        // Act & Assert
+        assertEquals(4, EventCalendar.loadOf(calendar.poll()));
+        assertEquals(7, EventCalendar.loadOf(calendar.poll()));
+        long event = calendar.poll();
+        assertEquals(TripSimulation.PROCESS_COMPLETE, EventCalendar.typeOf(event));
+        assertEquals(3, EventCalendar.loadOf(event));
+        assertEquals(TripSimulation.DEPART, EventCalendar.typeOf(calendar.poll()));
+        for (int i = 0; i < 40; i++) {
+            assertEquals(10.0 + i, calendar.peekTime());
+            calendar.poll();
+        }
+        assertTrue(calendar.isEmpty());
+        assertThrows(NoSuchElementException.class, calendar::poll);
+    }
+}
@@ -0,0 +1,131 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Generation: Built-In Centres Report Their Generation")
+    void testBuiltInGenerationTypes_TC_001() {
+        // Act & Assert
+        assertEquals(Recycling.Generation.ALPHA, new Alpha(Location.A, 1).getGenerationType());
+        assertEquals(Recycling.Generation.BETA, new Beta(Location.A, 1).getGenerationType());
+        assertEquals(Recycling.Generation.GAMMA, new Gamma(Location.A, 1).getGenerationType());
+    }
+
+    @Test
+    @DisplayName("Generation: Ranks Ascend From Alpha To Gamma")
+    void testGenerationRanks_TC_002() {
+        // Act & Assert
+        assertTrue(Recycling.Generation.ALPHA.getRank() < Recycling.Generation.BETA.getRank());
+        assertTrue(Recycling.Generation.BETA.getRank() < Recycling.Generation.GAMMA.getRank());
+    }
+
+    @Test
+    @DisplayName("Generation: Names Round Trip")
+    void testGenerationNames_TC_003() {
+        for (Recycling.Generation generation : Recycling.Generation.values()) {
+            // Act & Assert
+            assertEquals(generation, Recycling.Generation.fromName(generation.getDisplayName()));
+        }
+    }
+
+    @Test
+    @DisplayName("Generation: Centres Share Their Generation's Rates")
+    void testSharedRates_TC_004() {
+        // Act & Assert
+        assertSame(new Beta(Location.A, 1).getRates(), new Beta(Location.C, 9).getRates(), "Centres of one generation should share one rates list");
+    }
+
+    @Test
+    @DisplayName("Generation: Named Rates Match Rates List Order")
+    void testNamedRates_TC_005() {
+        for (Recycling.Generation generation : Recycling.Generation.values()) {
+            // Act & Assert
+            assertEquals(generation.getRates().get(Recycling.PLASTIC_GLASS_RATE), generation.getPlasticGlassRate());
+            assertEquals(generation.getRates().get(Recycling.PAPER_RATE), generation.getPaperRate());
+            assertEquals(generation.getRates().get(Recycling.METALLIC_RATE), generation.getMetallicRate());
+        }
+        assertEquals(3.0, new Gamma(Location.A, 1).getMetallicRate(), "Gamma should process metallic waste at 3 m3/hour");
+        assertEquals(2.0, new Gamma(Location.A, 1).getPaperRate(), "Gamma should process paper waste at 2 m3/hour");
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Generation: Unknown Names Have No Generation")
+    void testUnknownGeneration_TC_001() {
+        // Arrange
+        Recycling custom = new Recycling(Location.A, 1) {
+            @Override
+            public String getGeneration() {
+                return "Custom";
+            }
+
+            @Override
+            public List<Double> getRates() {
+                return List.of(1.0, 1.0, 1.0);
+            }
+        };
+
+        // Act & Assert
+        assertNull(custom.getGenerationType(), "Custom generations should not map to a known generation");
+        assertNull(Recycling.Generation.fromName(null));
+        assertNull(Recycling.Generation.fromName("gamma"), "Generation names are case sensitive");
+    }
+
+    @Test
+    @DisplayName("Generation: Custom Centres Read Named Rates From Their Rates List")
+    void testCustomCentreRates_TC_002() {
+        // Arrange
+        Recycling custom = new Recycling(Location.A, 1) {
+            @Override
+            public String getGeneration() {
+                return "Custom";
+            }
+
+            @Override
+            public List<Double> getRates() {
+                return List.of(4.0, 5.0, 6.0);
+            }
+        };
+
+        // Act & Assert
+        assertEquals(4.0, custom.getPlasticGlassRate());
+        assertEquals(5.0, custom.getPaperRate());
+        assertEquals(6.0, custom.getMetallicRate());
+    }
+
+    @Test
+    @DisplayName("Generation: Subclasses Of Built-In Centres Read Their Overridden Rates")
+    void testOverriddenBuiltInRates_TC_003() {
+        // Arrange
+        Recycling upgraded = new Alpha(Location.A, 1) {
+            @Override
+            public List<Double> getRates() {
+                return List.of(4.0, 5.0, 6.0);
+            }
+        };
+        Recycling renamed = new Gamma(Location.A, 1) {
+            @Override
+            public String getGeneration() {
+                return "Custom";
+            }
+        };
+
+        // Act & Assert
+        assertEquals(4.0, upgraded.getPlasticGlassRate());
+        assertEquals(5.0, upgraded.getPaperRate());
+        assertEquals(6.0, upgraded.getMetallicRate());
+        assertEquals(Recycling.Generation.ALPHA, upgraded.getGenerationType());
+        assertNull(renamed.getGenerationType(), "A renamed centre is of an unknown generation");
+        assertEquals(3.0, renamed.getMetallicRate());
+    }
+}
@@ -0,0 +1,185 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationNetworkTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Location Network: Built-In Network Matches Transport Times")
+    void testBuiltInMatchesTransport_TC_001() {
+        // Arrange
+        LocationNetwork network = LocationNetwork.builtIn();
+
+        // Act & Assert
+        assertEquals(Location.values().length, network.size());
+        for (Location from : Location.values()) {
+            assertEquals(from.ordinal(), network.idOf(from), "Built-in ids should match Location ordinals");
+            for (Location to : Location.values()) {
+                assertEquals(TravelTimeMatrix.TRANSPORT.travelTime(from, to), network.travelTime(from, to),
+                        "Travel time from " + from + " to " + to + " should match the transport matrix");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Location Network: Loads Matrix From File")
+    void testLoadFromFile_TC_002(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("network.csv");
+        Files.writeString(file, String.join("\n",
+                "# four depots",
+                ",North,South,East,West",
+                "North,0,2,3,4",
+                "South,2,0,5,6",
+                "",
+                "East,3,5,0,1.5",
+                "West,4,6,1.5,0"));
+
+        // Act
+        LocationNetwork network = LocationNetwork.load(file);
+
+        // Assert
+        assertEquals(4, network.size());
+        assertEquals(List.of("North", "South", "East", "West"), network.getNames());
+        assertEquals(2, network.idOf("East"));
+        assertEquals("West", network.nameOf(3));
+        assertEquals(1.5, network.travelTime(network.idOf("East"), network.idOf("West")));
+        assertEquals(5.0, network.travelTime(1, 2));
+    }
+
+    @Test
+    @DisplayName("Location Network: Sites At Any Location Of The Network")
+    void testSitesOnNetwork_TC_003() {
+        // Arrange
+        LocationNetwork network = new LocationNetwork(List.of("Depot", "B", "North"), new TravelTimeMatrix(3, new double[] {
+                0, 1, 2,
+                1, 0, 3,
+                2, 3, 0}));
+        LocationNetwork renumbered = new LocationNetwork(List.of("North", "Depot"), new TravelTimeMatrix(2, new double[] {0, 2, 2, 0}));
+
+        // Act
+        Historic depot = new Historic(network, "Depot", 2000);
+        Recycling north = Recycling.Generation.GAMMA.newCentre(network, "North", 3);
+        Recycling atB = new Alpha(network, "B", 1);
+
+        // Assert
+        assertEquals(0, network.idOf(depot));
+        assertEquals(2, network.idOf(north));
+        assertEquals("North", north.getLocationName());
+        assertNull(north.getLocation(), "North isn't one of the built-in locations");
+        assertEquals(Location.B, atB.getLocation(), "B is still the built-in location B");
+        assertEquals(1, LocationNetwork.builtIn().idOf(atB));
+        assertEquals(0, renumbered.idOf(north), "Another network should find the centre by name");
+        assertEquals(1, renumbered.idOf(depot));
+    }
+
+    @Test
+    @DisplayName("Location Network: Opens Mapped And CSV Matrices")
+    void testOpen_TC_004(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path csv = tempDir.resolve("network.csv");
+        Files.writeString(csv, ",North,South\nNorth,0,2.5\nSouth,2.5,0\n");
+        Path mapped = tempDir.resolve("network.lltf");
+        MappedTravelTimeMatrix.write(mapped, LocationNetwork.load(csv).getTravelTimes());
+
+        // Act
+        LocationNetwork fromCsv = LocationNetwork.open(csv);
+        LocationNetwork fromMapped = LocationNetwork.open(mapped);
+
+        // Assert
+        assertEquals(List.of("North", "South"), fromCsv.getNames());
+        assertEquals(List.of("0", "1"), fromMapped.getNames(), "Mapped locations should be named by id");
+        assertInstanceOf(MappedTravelTimeMatrix.class, fromMapped.getTravelTimes());
+        assertEquals(2.5, fromMapped.travelTime(fromMapped.idOf(new Historic(fromMapped, "1", 1000)), 0));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Location Network: Unknown Location Name Throws Exception")
+    void testUnknownName_TC_001() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LocationNetwork.builtIn().idOf("D"));
+    }
+
+    @Test
+    @DisplayName("Location Network: Duplicate Location Throws Exception")
+    void testDuplicateName_TC_002() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new LocationNetwork(List.of("A", "A"), new TravelTimeMatrix(2, new double[] {0, 1, 1, 0})));
+    }
+
+    @Test
+    @DisplayName("Location Network: Mismatched Matrix Size Throws Exception")
+    void testMismatchedSize_TC_003() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new LocationNetwork(List.of("A", "B", "C"), new TravelTimeMatrix(2, new double[] {0, 1, 1, 0})));
+    }
+
+    @Test
+    @DisplayName("Location Network: Rows Out Of Order Throw Exception")
+    void testRowsOutOfOrder_TC_004() {
+        // Arrange
+        BufferedReader reader = new BufferedReader(new StringReader(",A,B\nB,0,1\nA,1,0\n"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LocationNetwork.read(reader));
+    }
+
+    @Test
+    @DisplayName("Location Network: Missing Rows Throw Exception")
+    void testMissingRows_TC_005() {
+        // Arrange
+        BufferedReader reader = new BufferedReader(new StringReader(",A,B\nA,0,1\n"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LocationNetwork.read(reader));
+    }
+
+    @Test
+    @DisplayName("Location Network: Negative Travel Time Throws Exception")
+    void testNegativeTime_TC_006() {
+        // Arrange
+        BufferedReader reader = new BufferedReader(new StringReader(",A,B\nA,0,-1\nB,1,0\n"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> LocationNetwork.read(reader));
+    }
+
+    @Test
+    @DisplayName("Location Network: Location Not In Network Throws Exception")
+    void testLocationNotInNetwork_TC_007() {
+        // Arrange
+        LocationNetwork network = new LocationNetwork(List.of("A", "B"), new TravelTimeMatrix(2, new double[] {0, 1, 1, 0}));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> network.idOf(Location.C));
+    }
+
+    @Test
+    @DisplayName("Location Network: Sites At Unknown Locations Throw Exception")
+    void testSiteNotInNetwork_TC_008() {
+        // Arrange
+        LocationNetwork network = new LocationNetwork(List.of("Depot", "North"), new TravelTimeMatrix(2, new double[] {0, 1, 1, 0}));
+        Historic depot = new Historic(network, "Depot", 2000);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new Historic(network, "South", 2000));
+        assertThrows(IllegalArgumentException.class, () -> new Beta(network, "A", 1));
+        assertThrows(IllegalArgumentException.class, () -> LocationNetwork.builtIn().idOf(depot));
+    }
+}
@@ -0,0 +1,113 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTravelTimeMatrixTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Mapped Travel Time Matrix: Round Trip Keeps Transport Times")
+    void testRoundTrip_TC_001(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("transport.lltf");
+        MappedTravelTimeMatrix.write(file, TravelTimeMatrix.TRANSPORT);
+
+        // Act
+        MappedTravelTimeMatrix mapped = MappedTravelTimeMatrix.open(file);
+
+        // Assert
+        assertEquals(3, mapped.size());
+        for (Location from : Location.values()) {
+            for (Location to : Location.values()) {
+                assertEquals(TravelTimeMatrix.TRANSPORT.travelTime(from, to), mapped.travelTime(from.ordinal(), to.ordinal()),
+                        "Travel time from " + from + " to " + to + " should survive the round trip");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Mapped Travel Time Matrix: Rows Split Across Several Mappings")
+    void testSeveralSegments_TC_002(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        int size = 37;
+        double[] times = new double[size * size];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = i * 0.25;
+        }
+        Path file = tempDir.resolve("large.lltf");
+        MappedTravelTimeMatrix.write(file, new TravelTimeMatrix(size, times));
+
+        // Act
+        MappedTravelTimeMatrix mapped = MappedTravelTimeMatrix.open(file, size * Float.BYTES * 5);
+
+        // Assert
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                assertEquals(times[from * size + to], mapped.travelTime(from, to), "Travel time from " + from + " to " + to);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Mapped Travel Time Matrix: Works As A Location Network")
+    void testAsNetwork_TC_003(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("transport.lltf");
+        MappedTravelTimeMatrix.write(file, TravelTimeMatrix.TRANSPORT);
+
+        // Act
+        LocationNetwork network = new LocationNetwork(List.of("A", "B", "C"), MappedTravelTimeMatrix.open(file));
+
+        // Assert
+        assertEquals(1.0, network.travelTime(Location.C, Location.B));
+        assertEquals(3.0, network.travelTime(Location.B, Location.B));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Mapped Travel Time Matrix: Other Files Are Rejected")
+    void testNotAMatrixFile_TC_001(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> MappedTravelTimeMatrix.open(file));
+    }
+
+    @Test
+    @DisplayName("Mapped Travel Time Matrix: Truncated File Is Rejected")
+    void testTruncatedFile_TC_002(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("transport.lltf");
+        MappedTravelTimeMatrix.write(file, TravelTimeMatrix.TRANSPORT);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - Float.BYTES));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> MappedTravelTimeMatrix.open(file));
+    }
+
+    @Test
+    @DisplayName("Mapped Travel Time Matrix: Out Of Range Lookup Throws Exception")
+    void testOutOfRange_TC_003(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("transport.lltf");
+        MappedTravelTimeMatrix.write(file, TravelTimeMatrix.TRANSPORT);
+        MappedTravelTimeMatrix mapped = MappedTravelTimeMatrix.open(file);
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.travelTime(0, 3));
+    }
+}
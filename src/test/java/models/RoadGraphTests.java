@@ -0,0 +1,175 @@
+package models;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoadGraphTests {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    private static RoadGraph graph(String text) throws Exception {
+        return RoadGraph.read(new BufferedReader(new StringReader(text)));
+    }
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Road Graph: Shortest Times Go Through Intermediate Locations")
+    void testShortestTimes_TC_001() throws Exception {
+        // Arrange
+        RoadGraph graph = graph("# one-way roads\nA,B,2\nB,C,1\nA,C,5\n\nC,A,4\n");
+
+        // Act
+        LocationNetwork network = graph.toNetwork(pool);
+
+        // Assert
+        assertEquals(3, network.size());
+        assertEquals(0.0, network.travelTime(network.idOf("A"), network.idOf("A")), "A location is 0 hours from itself");
+        assertEquals(3.0, network.travelTime(network.idOf("A"), network.idOf("C")), "A to C is quicker through B");
+        assertEquals(5.0, network.travelTime(network.idOf("B"), network.idOf("A")), "B to A has to go through C");
+    }
+
+    @Test
+    @DisplayName("Road Graph: Blocked Parallel Result Matches Naive Floyd-Warshall")
+    void testMatchesNaive_TC_002() throws Exception {
+        // Arrange
+        int size = FloydWarshall.BLOCK_SIZE * 2 + 17;
+        Random random = new Random(42);
+        StringBuilder roads = new StringBuilder();
+        for (int e = 0; e < size * 4; e++) {
+            roads.append('L').append(e % size).append(",L").append(random.nextInt(size)).append(',')
+                    .append(1 + random.nextInt(20)).append('\n');
+        }
+        RoadGraph graph = graph(roads.toString());
+
+        // Act
+        LocationNetwork network = graph.toNetwork(pool);
+
+        // Assert
+        double[] expected = naiveShortestTimes(network.size(), roads.toString(), network);
+        for (int from = 0; from < network.size(); from++) {
+            for (int to = 0; to < network.size(); to++) {
+                assertEquals(expected[from * network.size() + to], network.travelTime(from, to),
+                        "Travel time from " + network.nameOf(from) + " to " + network.nameOf(to));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Road Graph: Cached Times Are Reused")
+    void testCacheReused_TC_003(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        RoadGraph graph = graph("A,B,2\nB,C,1\nC,A,4\n");
+        Path cacheFile = tempDir.resolve("times.bin");
+        LocationNetwork computed = graph.toNetwork(pool, cacheFile);
+        long written = Files.getLastModifiedTime(cacheFile).toMillis();
+
+        // Act
+        LocationNetwork cached = graph("A,B,2\nB,C,1\nC,A,4\n").toNetwork(pool, cacheFile);
+
+        // Assert
+        assertEquals(written, Files.getLastModifiedTime(cacheFile).toMillis(), "Cache should not be rewritten");
+        for (int from = 0; from < 3; from++) {
+            for (int to = 0; to < 3; to++) {
+                assertEquals(computed.travelTime(from, to), cached.travelTime(from, to));
+            }
+        }
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Road Graph: Unreachable Location Is Infinitely Far")
+    void testUnreachable_TC_001() throws Exception {
+        // Arrange
+        RoadGraph graph = graph("A,B,2\nC,B,1\n");
+
+        // Act
+        LocationNetwork network = graph.toNetwork(pool);
+
+        // Assert
+        assertEquals(Double.POSITIVE_INFINITY, network.travelTime(network.idOf("A"), network.idOf("C")));
+    }
+
+    @Test
+    @DisplayName("Road Graph: Changed Graph Ignores Stale Cache")
+    void testStaleCacheIgnored_TC_002(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path cacheFile = tempDir.resolve("times.bin");
+        graph("A,B,2\nB,A,2\n").toNetwork(pool, cacheFile);
+
+        // Act
+        LocationNetwork network = graph("A,B,7\nB,A,2\n").toNetwork(pool, cacheFile);
+
+        // Assert
+        assertEquals(7.0, network.travelTime(0, 1), "Times should be worked out again for the new graph");
+    }
+
+    @Test
+    @DisplayName("Road Graph: Corrupt Cache Is Ignored")
+    void testCorruptCacheIgnored_TC_003(@TempDir Path tempDir) throws Exception {
+        // Arrange
+        Path cacheFile = tempDir.resolve("times.bin");
+        Files.write(cacheFile, new byte[] {1, 2, 3});
+
+        // Act
+        LocationNetwork network = graph("A,B,2\n").toNetwork(pool, cacheFile);
+
+        // Assert
+        assertEquals(2.0, network.travelTime(0, 1));
+    }
+
+    @Test
+    @DisplayName("Road Graph: Malformed Roads Throw Exception")
+    void testMalformedRoads_TC_004() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> graph("A,B\n"));
+        assertThrows(IllegalArgumentException.class, () -> graph("A,B,x\n"));
+        assertThrows(IllegalArgumentException.class, () -> graph("A,B,-1\n"));
+        assertThrows(IllegalArgumentException.class, () -> graph(",B,1\n"));
+    }
+
+    private static double[] naiveShortestTimes(int size, String roads, LocationNetwork network) {
+        double[] times = new double[size * size];
+        Arrays.fill(times, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < size; i++) {
+            times[i * size + i] = 0.0;
+        }
+        for (String road : roads.split("\n")) {
+            String[] fields = road.split(",");
+            int index = network.idOf(fields[0]) * size + network.idOf(fields[1]);
+            times[index] = Math.min(times[index], Double.parseDouble(fields[2]));
+        }
+        for (int k = 0; k < size; k++) {
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    times[i * size + j] = Math.min(times[i * size + j], times[i * size + k] + times[k * size + j]);
+                }
+            }
+        }
+        return times;
+    }
+}
@@ -0,0 +1,71 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TravelTimeMatrixTests {
+
+    // Positive Test Cases
+
+    @Test
+    @DisplayName("Travel Time Matrix: Location Delegates To Location Matrix")
+    void testLocationUsesMatrix_TC_001() {
+        for (Location from : Location.values()) {
+            for (Location to : Location.values()) {
+                // Act & Assert
+                assertEquals(TravelTimeMatrix.LOCATION.travelTime(from, to), from.travelTime(to),
+                        "Location travel time from " + from + " to " + to + " should come from the matrix");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Travel Time Matrix: Transport Delegates To Transport Matrix")
+    void testTransportUsesMatrix_TC_002() {
+        for (Location from : Location.values()) {
+            for (Location to : Location.values()) {
+                // Arrange
+                Transport transport = new Transport(from, to);
+
+                // Act & Assert
+                assertEquals(TravelTimeMatrix.TRANSPORT.travelTime(from, to), transport.getTravelTime(),
+                        "Transport travel time from " + from + " to " + to + " should come from the matrix");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Travel Time Matrix: Transport Keeps Existing Journey Times")
+    void testTransportJourneyTimes_TC_003() {
+        // Act & Assert
+        assertEquals(1.0, TravelTimeMatrix.TRANSPORT.travelTime(Location.A, Location.A));
+        assertEquals(3.0, TravelTimeMatrix.TRANSPORT.travelTime(Location.B, Location.B));
+        assertEquals(1.0, TravelTimeMatrix.TRANSPORT.travelTime(Location.C, Location.B));
+        assertEquals(3.0, TravelTimeMatrix.TRANSPORT.travelTime(Location.B, Location.C));
+    }
+
+    // Negative Test Cases
+
+    @Test
+    @DisplayName("Travel Time Matrix: Non-Square Times Throw Exception")
+    void testConstructorWithWrongLength_TC_001() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TravelTimeMatrix(2, new double[] {0.0, 1.0, 1.0}));
+    }
+
+    @Test
+    @DisplayName("Travel Time Matrix: Caller Array Is Copied")
+    void testConstructorCopiesTimes_TC_002() {
+        // Arrange
+        double[] times = {0.0, 1.0, 1.0, 0.0};
+        TravelTimeMatrix matrix = new TravelTimeMatrix(2, times);
+
+        // Act
+        times[1] = 99.0;
+
+        // Assert
+        assertEquals(1.0, matrix.travelTime(0, 1), "Changing the source array should not affect the matrix");
+    }
+}
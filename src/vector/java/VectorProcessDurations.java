@@ -0,0 +1,32 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API kernel for ProcessDurations. Only compiled by the vector profile, and only looked up by ProcessDurations
+// when the jdk.incubator.vector module is present.
+final class VectorProcessDurations {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorProcessDurations() {
+    }
+
+    // Fills durations a whole vector at a time and returns the index of the first site it didn't reach.
+    static int calculate(double[] plasticGlass, double[] paper, double[] metallic,
+                         double[] plasticGlassRates, double[] paperRates, double[] metallicRates,
+                         double[] durations) {
+        int upperBound = SPECIES.loopBound(durations.length);
+
+        int i = 0;
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector plasticGlassTime = DoubleVector.fromArray(SPECIES, plasticGlass, i)
+                    .div(DoubleVector.fromArray(SPECIES, plasticGlassRates, i));
+            DoubleVector paperTime = DoubleVector.fromArray(SPECIES, paper, i)
+                    .div(DoubleVector.fromArray(SPECIES, paperRates, i));
+            DoubleVector metallicTime = DoubleVector.fromArray(SPECIES, metallic, i)
+                    .div(DoubleVector.fromArray(SPECIES, metallicRates, i));
+
+            plasticGlassTime.add(paperTime).add(metallicTime).intoArray(durations, i);
+        }
+        return i;
+    }
+}